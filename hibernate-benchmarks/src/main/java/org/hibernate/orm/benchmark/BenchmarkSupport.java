@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+/**
+ * Shared bootstrap and data-population logic for the benchmarks.
+ * <p>
+ * Every benchmark runs against its own in-memory H2 database, so
+ * the benchmarks can be run offline and do not interfere with each other.
+ */
+public final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( new HashMap<>() );
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> additionalSettings) {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" );
+		settings.put( AvailableSettings.JAKARTA_JDBC_USER, "sa" );
+		settings.put( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		settings.put( AvailableSettings.SHOW_SQL, false );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, false );
+		settings.putAll( additionalSettings );
+
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code customerCount} customers, each with {@code ordersPerCustomer} orders.
+	 */
+	public static void populate(SessionFactory sessionFactory, int customerCount, int ordersPerCustomer) {
+		sessionFactory.inTransaction( session -> {
+			long orderId = 0;
+			for ( int i = 0; i < customerCount; i++ ) {
+				final Customer customer = newCustomer( i );
+				session.persist( customer );
+				for ( int j = 0; j < ordersPerCustomer; j++ ) {
+					session.persist( new PurchaseOrder(
+							orderId++,
+							customer,
+							BigDecimal.valueOf( ( i * 31L + j ) % 1000, 2 ),
+							j % 3 == 0 ? "NEW" : "SHIPPED"
+					) );
+				}
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+
+	public static Customer newCustomer(long id) {
+		return new Customer(
+				id,
+				"Customer " + id,
+				"customer" + id + "@example.org",
+				LocalDate.of( 2000, 1, 1 ).plusDays( id % 8000 ),
+				(int) ( id % 500 )
+		);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flush-time dirty checking, as performed by
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener},
+ * over a session holding {@link #entityCount} managed entities.
+ * <p>
+ * {@link #flushUnmodified()} isolates the cost of the scan itself, while
+ * {@link #flushModified()} modifies a fraction of the entities before each
+ * flush. The enclosing transaction is rolled back after each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyCheckingBenchmark {
+
+	@Param({ "1000", "50000" })
+	public int entityCount;
+
+	@Param({ "10" })
+	public int modifiedPercentage;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private List<Customer> customers;
+	private int round;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.populate( sessionFactory, entityCount, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flushUnmodified() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushModified() {
+		final int step = 100 / modifiedPercentage;
+		final int points = round++;
+		for ( int i = 0; i < customers.size(); i += step ) {
+			customers.get( i ).setLoyaltyPoints( points );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures HQL parsing, both the ANTLR parse alone ({@link #parse()}) and the
+ * complete interpretation to SQM through the
+ * {@link org.hibernate.query.hql.internal.SemanticQueryBuilder} ({@link #interpret()}).
+ * <p>
+ * This is the work done for every query missing the query plan cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HqlParsingBenchmark {
+
+	@Param({
+			"from Customer",
+			"select c.name, count(o) from PurchaseOrder o join o.customer c where o.status = 'NEW' group by c.name order by c.name",
+			"from PurchaseOrder o join fetch o.customer c where c.active = true and o.amount > 10 and c.id in (select o2.customer.id from PurchaseOrder o2 where o2.status <> 'SHIPPED')"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private HqlTranslator hqlTranslator;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HqlParser.StatementContext parse() {
+		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final HqlParser hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+		return hqlParser.statement();
+	}
+
+	@Benchmark
+	public SqmStatement<Object> interpret() {
+		return hqlTranslator.translate( hql, null );
+	}
+}
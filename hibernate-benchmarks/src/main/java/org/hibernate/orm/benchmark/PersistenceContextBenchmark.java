@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures registration of entities in, and lookup of entities from, the
+ * {@link org.hibernate.engine.internal.StatefulPersistenceContext}.
+ * <p>
+ * Nothing is ever flushed, so the database is not involved in the measurements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceContextBenchmark {
+
+	@Param({ "100", "10000" })
+	public int entityCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void registerEntities(Blackhole blackhole) {
+		try ( SessionImplementor session = sessionFactory.openSession() ) {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.persist( BenchmarkSupport.newCustomer( i ) );
+			}
+			blackhole.consume( session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		}
+	}
+
+	@Benchmark
+	public void lookupManagedEntities(ManagedEntities managedEntities, Blackhole blackhole) {
+		final SessionImplementor session = managedEntities.session;
+		for ( long i = 0; i < entityCount; i++ ) {
+			blackhole.consume( session.find( Customer.class, i ) );
+		}
+	}
+
+	/**
+	 * A session which already holds {@link #entityCount} managed entities
+	 */
+	@State(Scope.Thread)
+	public static class ManagedEntities {
+		private SessionImplementor session;
+
+		@Setup(Level.Iteration)
+		public void setUp(PersistenceContextBenchmark benchmark) {
+			session = benchmark.sessionFactory.openSession();
+			for ( int i = 0; i < benchmark.entityCount; i++ ) {
+				session.persist( BenchmarkSupport.newCustomer( i ) );
+			}
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the processing of JDBC results into domain results, i.e.
+ * {@link org.hibernate.sql.results.internal.StandardRowReader} reading
+ * through {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl}.
+ * <p>
+ * The query plan cache is enabled, so the measurements are dominated by
+ * the execution and the row processing rather than by the interpretation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowProcessingBenchmark {
+
+	@Param({ "100", "10000" })
+	public int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		// one order per customer, so that every query returns rowCount rows
+		BenchmarkSupport.populate( sessionFactory, rowCount, 1 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> entities() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Customer", Customer.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Customer> entitiesStateless() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entitiesWithJoinFetch() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery(
+						"from PurchaseOrder o join fetch o.customer",
+						PurchaseOrder.class
+				).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery(
+						"select c.id, c.name, c.email, c.loyaltyPoints from Customer c",
+						Object[].class
+				).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Long> singleScalar() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select c.id from Customer c", Long.class )
+						.getResultList()
+		);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of an already built SQL AST to SQL by the
+ * {@link org.hibernate.sql.ast.spi.AbstractSqlAstTranslator} of the H2 dialect,
+ * and, separately, the SQM to SQL AST translation preceding it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlRenderingBenchmark {
+
+	@Param({
+			"from Customer",
+			"select c.name, count(o) from PurchaseOrder o join o.customer c where o.status = 'NEW' group by c.name order by c.name",
+			"from PurchaseOrder o join fetch o.customer c where c.active = true and o.amount > 10 and c.id in (select o2.customer.id from PurchaseOrder o2 where o2.status <> 'SHIPPED')"
+	})
+	public String hql;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory translatorFactory;
+	private SqmSelectStatement<?> sqm;
+	private SelectStatement sqlAst;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		translatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+		sqm = (SqmSelectStatement<?>) sessionFactory.getQueryEngine().getHqlTranslator().translate( hql, null );
+		sqlAst = translateToSqlAst();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect renderSql() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+
+	@Benchmark
+	public SelectStatement translateToSqlAst() {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		return queryEngine.getSqmTranslatorFactory()
+				.createSelectTranslator(
+						sqm,
+						QueryOptions.NONE,
+						DomainParameterXref.from( sqm ),
+						QueryParameterBindings.NO_PARAM_BINDINGS,
+						new LoadQueryInfluencers( sessionFactory ),
+						sessionFactory,
+						true
+				)
+				.translate()
+				.getSqlAst();
+	}
+}
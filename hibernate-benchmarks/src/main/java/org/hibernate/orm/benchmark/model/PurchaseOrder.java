@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class PurchaseOrder {
+	@Id
+	private Long id;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+	private BigDecimal amount;
+	private String status;
+
+	protected PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Long id, Customer customer, BigDecimal amount, String status) {
+		this.id = id;
+		this.customer = customer;
+		this.amount = amount;
+		this.status = status;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -101,6 +103,51 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, in the order given by the list, except that
+	 * entities of different types are grouped, and each group is inserted
+	 * in turn, in the order in which the types first occur in the list.
+	 * This allows the inserts of each type to be executed as a single JDBC
+	 * batch, even if the entities of different types are interleaved.
+	 * <p>
+	 * If JDBC batching is not {@linkplain SharedSessionContract#setJdbcBatchSize
+	 * enabled}, the inserts of each type are executed as one batch. All the
+	 * statements have been executed when this method returns.
+	 * <p>
+	 * If {@value org.hibernate.cfg.AvailableSettings#USE_BULK_LOAD} is enabled,
+	 * the rows of each type are instead loaded using the native bulk load
+	 * protocol of the database, where {@linkplain org.hibernate.dialect.bulk.BulkLoadSupport
+	 * supported} by the dialect and the entity.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple rows, grouping and batching the updates by entity
+	 * type, as described for {@link #insertMultiple(List)}.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple rows, grouping and batching the deletes by entity
+	 * type, as described for {@link #insertMultiple(List)}.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert.
 	 *
@@ -198,6 +245,28 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple rows, returning entity instances in a
+	 * list where the position of an instance in the list matches
+	 * the position of its identifier in the given array, and the
+	 * list contains a null value if there is no persistent
+	 * instance matching a given identifier.
+	 * <p>
+	 * The rows are fetched using as few round trips as possible,
+	 * with the identifiers split into chunks according to the
+	 * capabilities of the {@link org.hibernate.dialect.Dialect}.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return an ordered list of detached entity instances, with
+	 *         null elements representing missing entities
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
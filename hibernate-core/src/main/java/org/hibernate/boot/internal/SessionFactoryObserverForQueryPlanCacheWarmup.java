@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.internal.HqlInterpretationSnapshot;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_WARMUP_IN_BACKGROUND;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * Responsible for warming the {@linkplain QueryInterpretationCache query
+ * interpretation cache} from a {@linkplain HqlInterpretationSnapshot snapshot}
+ * when the {@link SessionFactory} is created, and for writing a new snapshot
+ * when it is closed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmup implements SessionFactoryObserver {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private volatile ExecutorService executor;
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = snapshotFile( sessionFactory );
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		if ( file == null || !queryEngine.getInterpretationCache().isEnabled() || !Files.exists( file ) ) {
+			return;
+		}
+
+		final List<HqlInterpretationSnapshot.Entry> entries;
+		try {
+			entries = HqlInterpretationSnapshot.read( file );
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to read HQL interpretation cache snapshot '%s'", file );
+			return;
+		}
+		if ( entries.isEmpty() ) {
+			return;
+		}
+
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().getService( ClassLoaderService.class );
+		final long start = System.nanoTime();
+		final AtomicInteger warmed = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( entries.size(), Runtime.getRuntime().availableProcessors() ),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-query-plan-cache-warmup" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		for ( HqlInterpretationSnapshot.Entry entry : entries ) {
+			executor.execute( () -> {
+				if ( warm( entry, queryEngine, classLoaderService ) ) {
+					warmed.incrementAndGet();
+				}
+			} );
+		}
+		executor.shutdown();
+
+		if ( getBoolean( QUERY_PLAN_CACHE_WARMUP_IN_BACKGROUND, sessionFactory.getProperties(), false ) ) {
+			this.executor = executor;
+		}
+		else {
+			try {
+				executor.awaitTermination( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+			}
+			catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+			log.debugf(
+					"Warmed HQL interpretation cache with %s of %s queries from '%s' in %s ms",
+					warmed.get(),
+					entries.size(),
+					file,
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+		}
+	}
+
+	private static boolean warm(
+			HqlInterpretationSnapshot.Entry entry,
+			QueryEngine queryEngine,
+			ClassLoaderService classLoaderService) {
+		try {
+			final String resultTypeName = entry.getExpectedResultTypeName();
+			final Class<?> resultType = resultTypeName == null ? null : classLoaderService.classForName( resultTypeName );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					entry.getQueryString(),
+					resultType,
+					queryEngine.getHqlTranslator()
+			);
+			return true;
+		}
+		catch (RuntimeException e) {
+			// the query, or its result type, may no longer be valid for the current domain model
+			log.debugf( "Skipping query from HQL interpretation cache snapshot: %s (%s)", entry.getQueryString(), e );
+			return false;
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final ExecutorService executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = snapshotFile( sessionFactory );
+		// the query engine is null if the SessionFactory failed to start
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		if ( file != null && queryEngine != null && queryEngine.getInterpretationCache().isEnabled() ) {
+			final QueryInterpretationCache cache = queryEngine.getInterpretationCache();
+			try {
+				final int count = HqlInterpretationSnapshot.write( cache, file );
+				log.debugf( "Wrote %s queries to HQL interpretation cache snapshot '%s'", count, file );
+			}
+			catch (IOException e) {
+				log.warnf( e, "Unable to write HQL interpretation cache snapshot '%s'", file );
+			}
+		}
+	}
+
+	private static Path snapshotFile(SessionFactoryImplementor sessionFactory) {
+		final Map<String, Object> properties = sessionFactory.getProperties();
+		final String file = getString( QUERY_PLAN_CACHE_SNAPSHOT_FILE, properties );
+		return file == null || file.isBlank() ? null : Paths.get( file.trim() );
+	}
+}
@@ -94,6 +94,7 @@ import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_STATE_REUSE;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
@@ -106,6 +107,7 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -116,11 +118,16 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.BATCH_SET_BASED_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.USE_BULK_LOAD;
+import static org.hibernate.cfg.AvailableSettings.USE_MULTI_ROW_INSERT;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
 import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE_BULK_RESOLUTION;
 import static org.hibernate.cfg.AvailableSettings.USE_SCROLLABLE_RESULTSET;
 import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
@@ -228,10 +235,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Caching
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
+	private boolean queryCacheBulkResolutionEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -240,6 +249,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	// JDBC Handling
 	private boolean getGeneratedKeysEnabled;
+	private final boolean bulkLoadEnabled;
+	private final boolean multiRowInsertEnabled;
+	private final boolean setBasedUpdatesEnabled;
+	private final int parallelDirtyCheckingThreshold;
+	private final boolean flushStateReuseEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
@@ -442,6 +456,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		if ( !(regionFactory instanceof NoCachingRegionFactory) ) {
 			this.secondLevelCacheEnabled = configurationService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			this.queryCacheEnabled = configurationService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
+			this.queryCacheBulkResolutionEnabled = configurationService.getSetting(
+					USE_QUERY_CACHE_BULK_RESOLUTION,
+					BOOLEAN,
+					false
+			);
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -457,6 +476,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = configurationService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -467,10 +487,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
+			this.queryCacheBulkResolutionEnabled = false;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.binaryCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -511,6 +533,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				meta.supportsGetGeneratedKeys()
 		);
+		this.bulkLoadEnabled = getBoolean( USE_BULK_LOAD, configurationSettings, false );
+		this.multiRowInsertEnabled = getBoolean( USE_MULTI_ROW_INSERT, configurationSettings, false );
+		this.setBasedUpdatesEnabled = getBoolean( BATCH_SET_BASED_UPDATES, configurationSettings, false );
+		this.parallelDirtyCheckingThreshold = getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
+		this.flushStateReuseEnabled = getBoolean( FLUSH_STATE_REUSE, configurationSettings, false );
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
@@ -1048,6 +1075,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryCacheEnabled;
 	}
 
+	@Override
+	public boolean isQueryCacheBulkResolutionEnabled() {
+		return queryCacheBulkResolutionEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1068,6 +1100,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1103,6 +1140,31 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return getGeneratedKeysEnabled;
 	}
 
+	@Override
+	public boolean isBulkLoadEnabled() {
+		return bulkLoadEnabled;
+	}
+
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
+	@Override
+	public boolean isSetBasedUpdatesEnabled() {
+		return setBasedUpdatesEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public boolean isFlushStateReuseEnabled() {
+		return flushStateReuseEnabled;
+	}
+
 	@Override
 	public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
@@ -253,6 +253,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public boolean isQueryCacheBulkResolutionEnabled() {
+		return delegate.isQueryCacheBulkResolutionEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -273,6 +278,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -308,6 +318,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isGetGeneratedKeysEnabled();
 	}
 
+	@Override
+	public boolean isBulkLoadEnabled() {
+		return delegate.isBulkLoadEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return delegate.isMultiRowInsertEnabled();
+	}
+
+	@Override
+	public boolean isSetBasedUpdatesEnabled() {
+		return delegate.isSetBasedUpdatesEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public boolean isFlushStateReuseEnabled() {
+		return delegate.isFlushStateReuseEnabled();
+	}
+
 	@Override
 	public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
@@ -166,6 +166,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isQueryCacheEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE_BULK_RESOLUTION
+	 */
+	default boolean isQueryCacheBulkResolutionEnabled() {
+		return false;
+	}
+
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
 	String getCacheRegionPrefix();
@@ -174,6 +181,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -188,6 +202,41 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isGetGeneratedKeysEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BULK_LOAD
+	 */
+	default boolean isBulkLoadEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_MULTI_ROW_INSERT
+	 */
+	default boolean isMultiRowInsertEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_SET_BASED_UPDATES
+	 */
+	default boolean isSetBasedUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_STATE_REUSE
+	 */
+	default boolean isFlushStateReuseEnabled() {
+		return false;
+	}
+
 	Integer getJdbcFetchSize();
 
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_SLAB_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_CACHE_TIME_TO_LIVE;
+
+/**
+ * A {@link RegionFactory} which stores the entries of domain data and query
+ * result regions in memory allocated outside the Java heap, so that a large
+ * cache does not add to the work of the garbage collector, and does not
+ * require a separate cache server.
+ * <p>
+ * Each region is bounded by {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_CACHE_MAX_SIZE},
+ * and its entries expire after {@value org.hibernate.cfg.CacheSettings#OFF_HEAP_CACHE_TIME_TO_LIVE}.
+ * The entries of the timestamps region, which must never be evicted, are kept
+ * on the heap.
+ * <p>
+ * The cache is local to the JVM, and so it should not be used by more than one
+ * instance of an application sharing the same database.
+ *
+ * @see OffHeapStorageAccess
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	private static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+	private static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+	private final CacheKeysFactory cacheKeysFactory;
+
+	private long maxSize;
+	private int slabSize;
+	private long timeToLive;
+
+	public OffHeapRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public OffHeapRegionFactory(CacheKeysFactory cacheKeysFactory) {
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	@Override
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return cacheKeysFactory;
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		maxSize = ConfigurationHelper.getLong( OFF_HEAP_CACHE_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		slabSize = (int) Math.min(
+				maxSize,
+				ConfigurationHelper.getInt( OFF_HEAP_CACHE_SLAB_SIZE, configValues, DEFAULT_SLAB_SIZE )
+		);
+		timeToLive = TimeUnit.SECONDS.toMillis(
+				ConfigurationHelper.getLong( OFF_HEAP_CACHE_TIME_TO_LIVE, configValues, 0 )
+		);
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( regionConfig.getRegionName(), maxSize, slabSize, timeToLive );
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion(
+				regionName,
+				this,
+				(OffHeapStorageAccess) createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( regionName, maxSize, slabSize, timeToLive );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// evicting a timestamp could let stale query results be used
+		return new TimestampsStorageAccess();
+	}
+
+	private static class OffHeapDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+		private OffHeapDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				DomainDataStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		}
+
+		private OffHeapStorageAccess storage() {
+			return (OffHeapStorageAccess) getCacheStorageAccess();
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storage().getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storage().getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storage().getSizeInMemory();
+		}
+	}
+
+	private static class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storage;
+
+		private OffHeapQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storage) {
+			super( name, regionFactory, storage );
+			this.storage = storage;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storage.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storage.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storage.getSizeInMemory();
+		}
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final ConcurrentHashMap<Object, Object> data = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return data.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the serialized form of each
+ * cached value in direct {@link ByteBuffer}s, outside the Java heap.
+ * <p>
+ * The memory of a region is divided into fixed-size slabs, which are allocated
+ * on demand up to the configured maximum size of the region. Entries are appended
+ * to the current slab, and when every slab is in use, the oldest slab is emptied,
+ * evicting all the entries written to it, and reused. A replaced or removed entry
+ * is not reclaimed until its slab is reused.
+ * <p>
+ * Only the index from key to the location of the value is kept on the heap.
+ * Writes are serialized by a lock, but reads are not: a reader copies the bytes
+ * of an entry, and then checks that its slab was not reused in the meantime.
+ *
+ * @see OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private final String regionName;
+	private final int slabSize;
+	private final long timeToLive;
+
+	private final ConcurrentHashMap<Object, Slot> index = new ConcurrentHashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	// the elements are assigned while holding the write lock
+	private final Slab[] slabs;
+	// guarded by the write lock
+	private int currentSlab = -1;
+	// written while holding the write lock
+	private volatile long liveBytes;
+
+	/**
+	 * @param regionName the name of the region, for logging
+	 * @param maxSize the maximum number of bytes of off-heap memory to use
+	 * @param slabSize the number of bytes allocated, and evicted, at once
+	 * @param timeToLive the number of milliseconds after which an entry expires, or {@code 0}
+	 */
+	public OffHeapStorageAccess(String regionName, long maxSize, int slabSize, long timeToLive) {
+		if ( slabSize <= 0 ) {
+			throw new CacheException( "Off-heap cache slab size must be positive: " + slabSize );
+		}
+		this.regionName = regionName;
+		this.slabSize = slabSize;
+		this.timeToLive = timeToLive;
+		// we need at least two slabs, or eviction would empty the whole region
+		this.slabs = new Slab[ (int) Math.min( Integer.MAX_VALUE, Math.max( 2, maxSize / slabSize ) ) ];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Slot slot = index.get( key );
+		if ( slot == null ) {
+			return null;
+		}
+		if ( slot.isExpired( System.currentTimeMillis() ) ) {
+			remove( key, slot );
+			return null;
+		}
+		final byte[] bytes = read( slot );
+		return bytes == null ? null : SerializationHelper.deserialize( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( !( value instanceof Serializable ) ) {
+			throw new CacheException( "Value cached in off-heap region '" + regionName + "' is not serializable: " + value );
+		}
+		final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+		if ( bytes.length > slabSize ) {
+			L2CACHE_LOGGER.debugf(
+					"Not caching entry of %s bytes in off-heap region `%s`, which is larger than a slab",
+					bytes.length,
+					regionName
+			);
+			// don't leave a stale value
+			evictData( key );
+			return;
+		}
+		final long expiry = timeToLive > 0 ? System.currentTimeMillis() + timeToLive : Long.MAX_VALUE;
+
+		writeLock.lock();
+		try {
+			final int slabIndex = slabFor( bytes.length );
+			final Slab slab = slabs[slabIndex];
+			final Slot slot = new Slot( key, slabIndex, slab.generation, slab.position, bytes.length, expiry );
+			slab.buffer.position( slab.position );
+			slab.buffer.put( bytes );
+			slab.position += bytes.length;
+			slab.slots.add( slot );
+
+			final Slot previous = index.put( key, slot );
+			liveBytes += bytes.length - ( previous == null ? 0 : previous.length );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Slot slot = index.get( key );
+		return slot != null && !slot.isExpired( System.currentTimeMillis() );
+	}
+
+	@Override
+	public void evictData() {
+		writeLock.lock();
+		try {
+			index.clear();
+			for ( Slab slab : slabs ) {
+				if ( slab != null ) {
+					slab.reset();
+				}
+			}
+			currentSlab = -1;
+			liveBytes = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final Slot slot = index.get( key );
+		if ( slot != null ) {
+			remove( key, slot );
+		}
+	}
+
+	@Override
+	public void release() {
+		writeLock.lock();
+		try {
+			evictData();
+			// let the direct buffers be freed
+			for ( int i = 0; i < slabs.length; i++ ) {
+				slabs[i] = null;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return index.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The total size of the serialized values currently cached, in bytes.
+	 */
+	@Override
+	public long getSizeInMemory() {
+		return liveBytes;
+	}
+
+	/**
+	 * The total size of the off-heap memory allocated by this region, in bytes.
+	 */
+	public long getAllocatedSize() {
+		long allocated = 0;
+		for ( Slab slab : slabs ) {
+			if ( slab != null ) {
+				allocated += slabSize;
+			}
+		}
+		return allocated;
+	}
+
+	private void remove(Object key, Slot slot) {
+		writeLock.lock();
+		try {
+			if ( index.remove( key, slot ) ) {
+				liveBytes -= slot.length;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private byte[] read(Slot slot) {
+		final Slab slab = slabs[slot.slab];
+		if ( slab == null ) {
+			// the region was released
+			return null;
+		}
+		final byte[] bytes = new byte[slot.length];
+		// each reader needs its own position
+		final ByteBuffer view = slab.buffer.duplicate();
+		view.position( slot.offset );
+		view.get( bytes );
+		// don't let the check of the generation happen before the copy
+		VarHandle.loadLoadFence();
+		return slab.generation == slot.generation ? bytes : null;
+	}
+
+	/**
+	 * Find the slab with room for an entry of the given length, emptying
+	 * the oldest slab when every slab is full.
+	 */
+	private int slabFor(int length) {
+		if ( currentSlab >= 0 && slabs[currentSlab].position + length <= slabSize ) {
+			return currentSlab;
+		}
+		currentSlab = ( currentSlab + 1 ) % slabs.length;
+		final Slab slab = slabs[currentSlab];
+		if ( slab == null ) {
+			slabs[currentSlab] = new Slab( slabSize );
+		}
+		else {
+			L2CACHE_LOGGER.tracef(
+					"Evicting %s entries of off-heap region `%s`",
+					slab.slots.size(),
+					regionName
+			);
+			for ( Slot slot : slab.slots ) {
+				// unless the entry was replaced since
+				if ( index.remove( slot.key, slot ) ) {
+					liveBytes -= slot.length;
+				}
+			}
+			slab.reset();
+		}
+		return currentSlab;
+	}
+
+	private static final class Slab {
+		private final ByteBuffer buffer;
+		// the slots of the entries written to this slab, guarded by the write lock
+		private final List<Slot> slots = new ArrayList<>();
+		// incremented each time the slab is emptied
+		private volatile int generation;
+		// guarded by the write lock
+		private int position;
+
+		private Slab(int size) {
+			buffer = ByteBuffer.allocateDirect( size );
+		}
+
+		private void reset() {
+			generation++;
+			// the new generation must be visible before any bytes are overwritten
+			VarHandle.storeStoreFence();
+			position = 0;
+			slots.clear();
+		}
+	}
+
+	private static final class Slot {
+		private final Object key;
+		private final int slab;
+		private final int generation;
+		private final int offset;
+		private final int length;
+		private final long expiry;
+
+		private Slot(Object key, int slab, int generation, int offset, int length, long expiry) {
+			this.key = key;
+			this.slab = slab;
+			this.generation = generation;
+			this.offset = offset;
+			this.length = length;
+			this.expiry = expiry;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiry;
+		}
+	}
+}
@@ -57,6 +57,29 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects cached under the given keys, in a single
+	 * operation where the underlying cache supports it. Used in resolving many
+	 * entities at once from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, in the order of the given keys, with {@code null}
+	 *         for each key for which {@link #get} would return {@code null}
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 6.5
+	 */
+	default Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = get( session, keys[i] );
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
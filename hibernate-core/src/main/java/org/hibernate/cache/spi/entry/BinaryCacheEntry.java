@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Binary CacheEntry format for entities. Used to store the entry into the second-level cache
+ * as a compact, versioned {@code byte[]}, which is much smaller and faster to copy than the
+ * Java serialization of a {@link StandardCacheEntryImpl}, for cache providers which store the
+ * entries remotely or off-heap.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton reference.
+	 */
+	public static final BinaryCacheEntry INSTANCE = new BinaryCacheEntry();
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final CompactStateCodec.Writer writer = new CompactStateCodec.Writer();
+		writer.writeValue( entry.getSubclass() );
+		writer.writeValue( entry.getVersion() );
+		writer.writeValue( state.length );
+		for ( Serializable value : state ) {
+			writer.writeValue( value );
+		}
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final CompactStateCodec.Reader reader = new CompactStateCodec.Reader( (byte[]) structured, factory );
+		final String subclass = reader.readString();
+		final Object version = reader.readValue();
+		final Serializable[] state = new Serializable[(Integer) reader.readValue()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) reader.readValue();
+		}
+		return new StandardCacheEntryImpl( state, subclass, version );
+	}
+
+	private BinaryCacheEntry() {
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Binary CacheEntry format for persistent collections, including Maps.
+ *
+ * @see BinaryCacheEntry
+ */
+public class BinaryCollectionCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton reference.
+	 */
+	public static final BinaryCollectionCacheEntry INSTANCE = new BinaryCollectionCacheEntry();
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final CompactStateCodec.Writer writer = new CompactStateCodec.Writer();
+		writer.writeValue( entry.getState() );
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final CompactStateCodec.Reader reader = new CompactStateCodec.Reader( (byte[]) structured, factory );
+		return new CollectionCacheEntry( (Serializable) reader.readValue() );
+	}
+
+	private BinaryCollectionCacheEntry() {
+	}
+}
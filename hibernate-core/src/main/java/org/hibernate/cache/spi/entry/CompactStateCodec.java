@@ -0,0 +1,474 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl.UNKNOWN;
+
+/**
+ * Encodes disassembled state into the compact byte layout used by
+ * {@link BinaryCacheEntry} and {@link BinaryCollectionCacheEntry}.
+ * <p>
+ * The layout starts with a {@linkplain #FORMAT_VERSION format version}.
+ * Each value is then written as a one byte tag, followed by:
+ * <ul>
+ * <li>nothing, for {@code null}, booleans, and the lazy and unknown markers,
+ * <li>a zig-zag encoded varint, for integral numbers,
+ * <li>the fixed width bits of floating point numbers,
+ * <li>a varint index into a dictionary of the strings of the entry, for strings
+ *     and enum values, where a string is written in UTF-8 on first occurrence,
+ * <li>a compact encoding of decimals, UUIDs, byte arrays and date/time values,
+ * <li>the length and elements of an array, for the state of embeddables,
+ *     composite ids and collections.
+ * </ul>
+ * Any other value is written using Java serialization, as a last resort.
+ */
+final class CompactStateCodec {
+	/**
+	 * Incremented whenever the layout changes incompatibly.
+	 */
+	static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte CHARACTER = 7;
+	private static final byte FLOAT = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte STRING = 10;
+	private static final byte STRING_REFERENCE = 11;
+	private static final byte BIG_DECIMAL = 12;
+	private static final byte BIG_INTEGER = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte BYTES = 15;
+	private static final byte OBJECT_ARRAY = 16;
+	private static final byte SERIALIZABLE_ARRAY = 17;
+	private static final byte INSTANT = 18;
+	private static final byte LOCAL_DATE = 19;
+	private static final byte LOCAL_DATE_TIME = 20;
+	private static final byte LOCAL_TIME = 21;
+	private static final byte SQL_TIMESTAMP = 22;
+	private static final byte SQL_DATE = 23;
+	private static final byte SQL_TIME = 24;
+	private static final byte DATE = 25;
+	private static final byte ENUM = 26;
+	private static final byte UNFETCHED = 27;
+	private static final byte UNKNOWN_VALUE = 28;
+	private static final byte SERIALIZED = 29;
+
+	private CompactStateCodec() {
+	}
+
+	/**
+	 * Writes the values of a single cache entry.
+	 */
+	static final class Writer {
+		private byte[] buffer = new byte[64];
+		private int position;
+		private Map<String, Integer> strings;
+
+		Writer() {
+			writeByte( FORMAT_VERSION );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+
+		void writeValue(Object value) {
+			if ( value == null ) {
+				writeByte( NULL );
+			}
+			else if ( value == UNFETCHED_PROPERTY ) {
+				writeByte( UNFETCHED );
+			}
+			else if ( value == UNKNOWN ) {
+				writeByte( UNKNOWN_VALUE );
+			}
+			else {
+				final Class<?> type = value.getClass();
+				if ( type == Integer.class ) {
+					writeByte( INTEGER );
+					writeSignedVarLong( (Integer) value );
+				}
+				else if ( type == Long.class ) {
+					writeByte( LONG );
+					writeSignedVarLong( (Long) value );
+				}
+				else if ( type == String.class ) {
+					writeString( (String) value );
+				}
+				else if ( type == Boolean.class ) {
+					writeByte( (Boolean) value ? TRUE : FALSE );
+				}
+				else if ( type == Short.class ) {
+					writeByte( SHORT );
+					writeSignedVarLong( (Short) value );
+				}
+				else if ( type == Byte.class ) {
+					writeByte( BYTE );
+					writeByte( (Byte) value );
+				}
+				else if ( type == Character.class ) {
+					writeByte( CHARACTER );
+					writeVarLong( (Character) value );
+				}
+				else if ( type == Float.class ) {
+					writeByte( FLOAT );
+					writeFixedInt( Float.floatToRawIntBits( (Float) value ) );
+				}
+				else if ( type == Double.class ) {
+					writeByte( DOUBLE );
+					writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+				}
+				else if ( type == BigDecimal.class ) {
+					final BigDecimal decimal = (BigDecimal) value;
+					writeByte( BIG_DECIMAL );
+					writeSignedVarLong( decimal.scale() );
+					writeBytes( decimal.unscaledValue().toByteArray() );
+				}
+				else if ( type == BigInteger.class ) {
+					writeByte( BIG_INTEGER );
+					writeBytes( ( (BigInteger) value ).toByteArray() );
+				}
+				else if ( type == UUID.class ) {
+					final UUID uuid = (UUID) value;
+					writeByte( UUID_VALUE );
+					writeFixedLong( uuid.getMostSignificantBits() );
+					writeFixedLong( uuid.getLeastSignificantBits() );
+				}
+				else if ( type == byte[].class ) {
+					writeByte( BYTES );
+					writeBytes( (byte[]) value );
+				}
+				else if ( type == Object[].class || type == Serializable[].class ) {
+					final Object[] array = (Object[]) value;
+					writeByte( type == Object[].class ? OBJECT_ARRAY : SERIALIZABLE_ARRAY );
+					writeVarLong( array.length );
+					for ( Object element : array ) {
+						writeValue( element );
+					}
+				}
+				else if ( type == Instant.class ) {
+					final Instant instant = (Instant) value;
+					writeByte( INSTANT );
+					writeSignedVarLong( instant.getEpochSecond() );
+					writeVarLong( instant.getNano() );
+				}
+				else if ( type == LocalDate.class ) {
+					writeByte( LOCAL_DATE );
+					writeSignedVarLong( ( (LocalDate) value ).toEpochDay() );
+				}
+				else if ( type == LocalDateTime.class ) {
+					final LocalDateTime dateTime = (LocalDateTime) value;
+					writeByte( LOCAL_DATE_TIME );
+					writeSignedVarLong( dateTime.toLocalDate().toEpochDay() );
+					writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+				}
+				else if ( type == LocalTime.class ) {
+					writeByte( LOCAL_TIME );
+					writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+				}
+				else if ( type == java.sql.Timestamp.class ) {
+					final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+					writeByte( SQL_TIMESTAMP );
+					writeSignedVarLong( timestamp.getTime() );
+					writeVarLong( timestamp.getNanos() );
+				}
+				else if ( type == java.sql.Date.class ) {
+					writeByte( SQL_DATE );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( type == java.sql.Time.class ) {
+					writeByte( SQL_TIME );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( type == Date.class ) {
+					writeByte( DATE );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( value instanceof Enum ) {
+					final Enum<?> constant = (Enum<?>) value;
+					writeByte( ENUM );
+					writeString( constant.getDeclaringClass().getName() );
+					writeString( constant.name() );
+				}
+				else {
+					writeByte( SERIALIZED );
+					writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+
+		private void writeString(String string) {
+			if ( strings == null ) {
+				strings = new HashMap<>();
+			}
+			final Integer index = strings.get( string );
+			if ( index == null ) {
+				strings.put( string, strings.size() );
+				writeByte( STRING );
+				writeBytes( string.getBytes( UTF_8 ) );
+			}
+			else {
+				writeByte( STRING_REFERENCE );
+				writeVarLong( index );
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarLong( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private void writeSignedVarLong(long value) {
+			// zig-zag, so that small negative numbers are short too
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeFixedInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+	}
+
+	/**
+	 * Reads the values of a single cache entry.
+	 */
+	static final class Reader {
+		private final byte[] buffer;
+		private final SessionFactoryImplementor factory;
+		private int position;
+		private List<String> strings;
+
+		Reader(byte[] buffer, SessionFactoryImplementor factory) {
+			this.buffer = buffer;
+			this.factory = factory;
+			final byte version = readByte();
+			if ( version != FORMAT_VERSION ) {
+				throw new CacheException( "Unsupported binary cache entry format version: " + version );
+			}
+		}
+
+		Object readValue() {
+			final byte tag = readByte();
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case UNFETCHED:
+					return UNFETCHED_PROPERTY;
+				case UNKNOWN_VALUE:
+					return UNKNOWN;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case INTEGER:
+					return (int) readSignedVarLong();
+				case LONG:
+					return readSignedVarLong();
+				case SHORT:
+					return (short) readSignedVarLong();
+				case BYTE:
+					return readByte();
+				case CHARACTER:
+					return (char) readVarLong();
+				case FLOAT:
+					return Float.intBitsToFloat( readFixedInt() );
+				case DOUBLE:
+					return Double.longBitsToDouble( readFixedLong() );
+				case STRING:
+				case STRING_REFERENCE:
+					return readString( tag );
+				case BIG_DECIMAL: {
+					final int scale = (int) readSignedVarLong();
+					return new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER:
+					return new BigInteger( readBytes() );
+				case UUID_VALUE:
+					return new UUID( readFixedLong(), readFixedLong() );
+				case BYTES:
+					return readBytes();
+				case OBJECT_ARRAY:
+				case SERIALIZABLE_ARRAY: {
+					final int length = (int) readVarLong();
+					final Object[] array = tag == OBJECT_ARRAY ? new Object[length] : new Serializable[length];
+					for ( int i = 0; i < length; i++ ) {
+						array[i] = readValue();
+					}
+					return array;
+				}
+				case INSTANT: {
+					final long seconds = readSignedVarLong();
+					return Instant.ofEpochSecond( seconds, readVarLong() );
+				}
+				case LOCAL_DATE:
+					return LocalDate.ofEpochDay( readSignedVarLong() );
+				case LOCAL_DATE_TIME: {
+					final LocalDate date = LocalDate.ofEpochDay( readSignedVarLong() );
+					return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+				}
+				case LOCAL_TIME:
+					return LocalTime.ofNanoOfDay( readVarLong() );
+				case SQL_TIMESTAMP: {
+					final java.sql.Timestamp timestamp = new java.sql.Timestamp( readSignedVarLong() );
+					timestamp.setNanos( (int) readVarLong() );
+					return timestamp;
+				}
+				case SQL_DATE:
+					return new java.sql.Date( readSignedVarLong() );
+				case SQL_TIME:
+					return new java.sql.Time( readSignedVarLong() );
+				case DATE:
+					return new Date( readSignedVarLong() );
+				case ENUM:
+					return readEnum();
+				case SERIALIZED:
+					return SerializationHelper.deserialize( readBytes() );
+				default:
+					throw new CacheException( "Unknown value tag in binary cache entry: " + tag );
+			}
+		}
+
+		String readString() {
+			return readString( readByte() );
+		}
+
+		private String readString(byte tag) {
+			if ( strings == null ) {
+				strings = new ArrayList<>();
+			}
+			if ( tag == STRING ) {
+				final int length = (int) readVarLong();
+				final String string = new String( buffer, position, length, UTF_8 );
+				position += length;
+				strings.add( string );
+				return string;
+			}
+			else if ( tag == STRING_REFERENCE ) {
+				return strings.get( (int) readVarLong() );
+			}
+			else {
+				throw new CacheException( "Expected a string in binary cache entry, but found tag: " + tag );
+			}
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private Object readEnum() {
+			final String className = readString();
+			final String name = readString();
+			final Class enumClass = classLoaderService().classForName( className );
+			return Enum.valueOf( enumClass, name );
+		}
+
+		private ClassLoaderService classLoaderService() {
+			return factory.getServiceRegistry().requireService( ClassLoaderService.class );
+		}
+
+		private byte[] readBytes() {
+			final int length = (int) readVarLong();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		private long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( b & 0x80 ) != 0 );
+			return value;
+		}
+
+		private int readFixedInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte readByte() {
+			return buffer[position++];
+		}
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -53,6 +56,16 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		final Map<Object, Object> items = getStorageAccess().getAllFromCache( Arrays.asList( keys ), session );
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = items.get( keys[i] );
+		}
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
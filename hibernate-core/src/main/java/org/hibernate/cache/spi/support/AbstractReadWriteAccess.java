@@ -7,10 +7,15 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -24,21 +29,46 @@ import org.jboss.logging.Logger;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
+ * Base support for the {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE}
+ * access type.
+ * <p>
+ * Every operation reads and writes the entry for a single key, so operations on
+ * different keys do not need to exclude each other. Instead of a single lock for
+ * the whole region, the keys are therefore partitioned into a fixed number of
+ * stripes, each guarded by its own {@link ReentrantReadWriteLock}. Writers of
+ * different keys of a busy region rarely contend, and readers only wait for a
+ * writer of a key in the same stripe.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	private static final int STRIPES = stripes( Runtime.getRuntime().availableProcessors() );
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPES];
+	private final Lock readLock = new AllStripesLock( false );
+	private final Lock writeLock = new AllStripesLock( true );
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		for ( int i = 0; i < stripes.length; i++ ) {
+			stripes[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	/**
+	 * Two stripes per processor, rounded up to a power of two, at least
+	 * {@code 8}, and at most {@code 64}, since there is an access object
+	 * per cached entity, collection and natural id.
+	 */
+	private static int stripes(int processors) {
+		final int stripes = Math.max( 8, Math.min( 64, processors * 2 ) );
+		return Integer.highestOneBit( stripes - 1 ) << 1;
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -51,14 +81,55 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	/**
+	 * A lock which excludes writers of every key of the region.
+	 *
+	 * @deprecated the operations of this class lock only the stripe of the key
+	 *             they operate on, use {@link #readLock(Object)}. The returned lock
+	 *             acquires the read locks of all stripes.
+	 */
+	@Deprecated(since = "6.5")
 	protected Lock readLock() {
 		return readLock;
 	}
 
+	/**
+	 * A lock which excludes readers and writers of every key of the region.
+	 *
+	 * @deprecated the operations of this class lock only the stripe of the key
+	 *             they operate on, use {@link #writeLock(Object)}. The returned lock
+	 *             acquires the write locks of all stripes, and, unlike the lock of
+	 *             earlier versions, does not support {@link Lock#newCondition()
+	 *             conditions}.
+	 */
+	@Deprecated(since = "6.5")
 	protected Lock writeLock() {
 		return writeLock;
 	}
 
+	/**
+	 * The lock which must be held to read the entry for the given key.
+	 */
+	protected Lock readLock(Object key) {
+		return stripe( key ).readLock();
+	}
+
+	/**
+	 * The lock which must be held to change the entry for the given key.
+	 */
+	protected Lock writeLock(Object key) {
+		return stripe( key ).writeLock();
+	}
+
+	private ReentrantReadWriteLock stripe(Object key) {
+		return stripes[stripeIndex( key )];
+	}
+
+	private int stripeIndex(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( stripes.length - 1 );
+	}
+
 	/**
 	 * Returns <code>null</code> if the item is not readable.  Locked items are not readable, nor are items created
 	 * afterQuery the start of this transaction.
@@ -70,7 +141,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		}
 		try {
-			readLock.lock();
+			readLock( key ).lock();
 			final Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item == null ) {
@@ -95,8 +166,50 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			readLock.unlock();
+			readLock( key ).unlock();
+		}
+	}
+
+	/**
+	 * Reads the entries for all the given keys from the storage in a single
+	 * operation, holding the read locks of the stripes of all the keys. The
+	 * locks are acquired in the same order as {@link #readLock()} acquires
+	 * them, so a concurrent bulk read never deadlocks with another.
+	 * <p>
+	 * As for {@link #get}, an entry which is not readable is returned as
+	 * {@code null}.
+	 */
+	@Override
+	public Object[] getAll(SharedSessionContractImplementor session, Object[] keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.length );
+		}
+		final BitSet lockedStripes = new BitSet( stripes.length );
+		for ( Object key : keys ) {
+			lockedStripes.set( stripeIndex( key ) );
+		}
+		final Map<Object, Object> items;
+		try {
+			for ( int i = lockedStripes.nextSetBit( 0 ); i >= 0; i = lockedStripes.nextSetBit( i + 1 ) ) {
+				stripes[i].readLock().lock();
+			}
+			items = getStorageAccess().getAllFromCache( Arrays.asList( keys ), session );
+		}
+		finally {
+			for ( int i = lockedStripes.nextSetBit( 0 ); i >= 0; i = lockedStripes.nextSetBit( i + 1 ) ) {
+				stripes[i].readLock().unlock();
+			}
 		}
+
+		final long cachingTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Lockable item = (Lockable) items.get( keys[i] );
+			if ( item != null && item.isReadable( cachingTimestamp ) ) {
+				values[i] = item.getValue();
+			}
+		}
+		return values;
 	}
 
 	@Override
@@ -110,7 +223,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			if ( debugEnabled ) {
 				log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
 			}
-			writeLock.lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			boolean writable = item == null || item.isWriteable( session.getCacheTransactionSynchronization().getCachingTimestamp(), version, getVersionComparator() );
@@ -136,7 +249,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -155,7 +268,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
 		try {
-			writeLock.lock();
+			writeLock( key ).lock();
 
 			long timeout = getRegion().getRegionFactory().nextTimestamp() + getRegion().getRegionFactory().getTimeout();
 			if ( log.isDebugEnabled() ) {
@@ -170,7 +283,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return lock;
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -185,7 +298,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 						key
 				);
 			}
-			writeLock.lock();
+			writeLock( key ).lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( ( item != null ) && item.isUnlockable( lock ) ) {
@@ -196,7 +309,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 		}
 		finally {
-			writeLock.unlock();
+			writeLock( key ).unlock();
 		}
 	}
 
@@ -234,6 +347,94 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		// A no-op
 	}
 
+	/**
+	 * Acquires the read or write locks of all stripes, always in the same order,
+	 * so that it excludes the operations on every key, as the single region-wide
+	 * lock of earlier versions did. There is no single lock to wait on, so it
+	 * has no {@linkplain #newCondition() conditions}.
+	 */
+	private class AllStripesLock implements Lock {
+		private final boolean write;
+
+		private AllStripesLock(boolean write) {
+			this.write = write;
+		}
+
+		private Lock lock(int stripe) {
+			return write ? stripes[stripe].writeLock() : stripes[stripe].readLock();
+		}
+
+		@Override
+		public void lock() {
+			for ( int i = 0; i < stripes.length; i++ ) {
+				lock( i ).lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int i = 0;
+			try {
+				for ( ; i < stripes.length; i++ ) {
+					lock( i ).lockInterruptibly();
+				}
+			}
+			catch (InterruptedException e) {
+				unlock( i );
+				throw e;
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < stripes.length; i++ ) {
+				if ( !lock( i ).tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int i = 0;
+			try {
+				for ( ; i < stripes.length; i++ ) {
+					if ( !lock( i ).tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						unlock( i );
+						return false;
+					}
+				}
+				return true;
+			}
+			catch (InterruptedException e) {
+				unlock( i );
+				throw e;
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( stripes.length );
+		}
+
+		/**
+		 * Release the locks of the stripes before the given one.
+		 */
+		private void unlock(int end) {
+			for ( int i = end - 1; i >= 0; i-- ) {
+				lock( i ).unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException( "Conditions are not supported by a region-wide lock" );
+		}
+	}
+
 	/**
 	 * Interface type implemented by all wrapper objects in the cache.
 	 */
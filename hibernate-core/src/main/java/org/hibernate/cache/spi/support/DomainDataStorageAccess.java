@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +28,48 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items cached under the given keys, in a single operation
+	 * where the underlying cache supports it.
+	 *
+	 * @return the cached items by key, with no entry for a key which
+	 *         is not in the cache
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key
+	 *
+	 * @since 6.5
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put all the given items into the cache, in a single operation
+	 * where the underlying cache supports it.
+	 * <p>
+	 * Hibernate itself does not call this method: entries put after a
+	 * load are put one at a time, since the access strategy must check
+	 * the lock and version of each entry. It is offered to providers and
+	 * integrations which populate a region in bulk, for example to warm
+	 * it up.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache}
+	 *           for each item
+	 *
+	 * @since 6.5
+	 */
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> item : items.entrySet() ) {
+			putIntoCache( item.getKey(), item.getValue(), session );
+		}
+	}
 }
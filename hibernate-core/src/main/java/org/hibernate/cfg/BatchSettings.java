@@ -35,9 +35,70 @@ public interface BatchSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * When enabled, a full JDBC batch is executed by a background thread, while the
+	 * flushing thread binds the next batch of the same statements to a second set of
+	 * {@linkplain PreparedStatement prepared statements}. At most one batch is being
+	 * executed at any time, and every other statement waits for it, so statements are
+	 * still executed in their original order. A failure is reported on the flushing
+	 * thread, at the latest when the flush executes the last batch.
+	 * <p>
+	 * The JDBC driver must allow statements to be prepared, and parameters to be bound,
+	 * while another statement of the same connection is being executed by a different
+	 * thread. Session event listeners are still notified on the flushing thread.
+	 * <p>
+	 * Only applies to the default {@linkplain #BUILDER batch builder}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Specifies a target execution time, in milliseconds, for JDBC batches. When set,
+	 * the size of the batches of each batched statement is adjusted, based on the
+	 * execution times observed so far, so that executing a batch takes about this long.
+	 * The batch size never exceeds the {@linkplain #STATEMENT_BATCH_SIZE configured
+	 * batch size}, which is also the size of the first batches. A value of {@code 0},
+	 * the default, disables the adjustment.
+	 * <p>
+	 * Adjustments are counted by {@link org.hibernate.stat.Statistics#getJdbcBatchSizeAdjustmentCount()}.
+	 * <p>
+	 * Only applies to the default {@linkplain #BUILDER batch builder}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String BATCH_TARGET_LATENCY = "hibernate.jdbc.batch_target_latency";
+
+	/**
+	 * When enabled, specifies that a JDBC batch of updates of a single table, which
+	 * assign parameters to columns and restrict by primary key and version, should be
+	 * executed as a single set-based statement with a {@code values} list, either a
+	 * {@code merge}, if the {@linkplain org.hibernate.dialect.Dialect#supportsMergeUsingValuesList
+	 * dialect supports it}, or an {@code update ... from (values ...)}, if the
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsUpdateFromValuesList dialect
+	 * supports that}. Updates of entities with
+	 * {@linkplain org.hibernate.annotations.DynamicUpdate dynamic updates} are then batched
+	 * too, when they assign the same columns.
+	 * <p>
+	 * A failed optimistic lock check is detected from the total number of updated rows,
+	 * but, unlike with JDBC batching, the entity which failed the check is not identified.
+	 * <p>
+	 * Only applies to the default {@linkplain #BUILDER batch builder}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String BATCH_SET_BASED_UPDATES = "hibernate.jdbc.batch_set_based_updates";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
-	 * efficient JDBC batching
+	 * efficient JDBC batching. Delete statements are also grouped by entity, without
+	 * violating the foreign key dependencies between the deleted entities.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfUpdates
 	 *
@@ -47,7 +108,8 @@ public interface BatchSettings {
 
 	/**
 	 * Enable ordering of insert statements by primary key value, for the purpose of more
-	 * efficient JDBC batching.
+	 * efficient JDBC batching. Insert statements are grouped by entity, without violating
+	 * the foreign key dependencies between the inserted entities.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyOrderingOfInserts
 	 *
@@ -55,6 +117,43 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Specifies the minimum number of managed entities in a session above which
+	 * a flush reads the current state of non-enhanced entities, and compares it
+	 * with their loaded state, using several threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}. The results are then processed
+	 * sequentially, exactly as they would be otherwise. A value of {@code 0}, the
+	 * default, disables parallel dirty checking.
+	 * <p>
+	 * Associations and collections are still compared on the flushing thread, but
+	 * property getters, and the {@code equals()} methods of basic and embeddable
+	 * types, must be safe to call from another thread. Entity callbacks and
+	 * {@linkplain org.hibernate.Interceptor interceptors} must not modify other
+	 * entities while the session is being flushed.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * When enabled, specifies that a session should keep the {@code FlushEntityEvent}
+	 * and the arrays of property values used to dirty check its entities, and reuse
+	 * them in later flushes, instead of allocating new ones for every entity on every
+	 * flush. An array is only reused when the entity turns out not to be dirty, since
+	 * the values of a dirty entity become part of the scheduled update.
+	 * <p>
+	 * Arrays are only reused when the default flush entity listener is the only one
+	 * registered, and the session has no {@linkplain org.hibernate.Interceptor interceptor},
+	 * since either might otherwise keep a reference to the values.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String FLUSH_STATE_REUSE = "hibernate.flush.reuse_state";
+
 	/**
 	 * When enabled, specifies that {@linkplain jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -65,6 +164,42 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that {@link org.hibernate.StatelessSession#insertMultiple}
+	 * should use the native bulk load protocol of the database, for example, {@code COPY}
+	 * on PostgreSQL, instead of JDBC batching, if the {@linkplain org.hibernate.dialect.Dialect
+	 * dialect} provides {@linkplain org.hibernate.dialect.Dialect#getBulkLoadSupport support}
+	 * for it and the entity maps to a single table with no generated values.
+	 *
+	 * @see org.hibernate.dialect.bulk.BulkLoadSupport
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String USE_BULK_LOAD = "hibernate.jdbc.use_bulk_load";
+
+	/**
+	 * When enabled, specifies that {@link org.hibernate.StatelessSession#insertMultiple}
+	 * should insert the rows of an entity using {@code insert} statements with a
+	 * multi-row {@code values} list, instead of JDBC batching, if the entity maps to a
+	 * single table and the {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert
+	 * dialect supports it}. This is useful with drivers which do not rewrite JDBC batches
+	 * into multi-row inserts. A statement has at most 1000 rows, or the configured
+	 * {@linkplain #STATEMENT_BATCH_SIZE batch size}, if it is smaller, and never more
+	 * parameters than the {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertParameterCountLimit
+	 * limit} of the dialect.
+	 * <p>
+	 * Identity columns are supported if the dialect can return the
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsertGeneratedKeys
+	 * generated keys of every row}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String USE_MULTI_ROW_INSERT = "hibernate.jdbc.use_multi_row_insert";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -78,6 +78,19 @@ public interface CacheSettings {
 	 */
 	String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
 
+	/**
+	 * When enabled, the entities referenced by the select-fetched associations
+	 * of a result read from the query cache are loaded together, before the
+	 * rows are processed, instead of one at a time as each row is processed.
+	 * The second-level cache is consulted first, and the entities it does not
+	 * contain are loaded by a single multi-id select.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String USE_QUERY_CACHE_BULK_RESOLUTION = "hibernate.cache.use_query_cache_bulk_resolution";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -149,6 +162,25 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of binary second-level cache entries. The state of entities and
+	 * collections is stored as a compact, versioned {@code byte[]}, instead of as an
+	 * object graph. This reduces the memory and network use of cache providers which
+	 * store the entries remotely or off-heap, and the cost of serializing them. Takes
+	 * precedence over {@value #USE_STRUCTURED_CACHE}.
+	 * <p>
+	 * Values of basic types known to Hibernate, including strings, numbers, UUIDs,
+	 * enums and date/time types, are encoded without class descriptors. Values of
+	 * other types are encoded using Java serialization.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.BinaryCacheEntry
+	 *
+	 * @since 6.5
+	 */
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -206,6 +238,39 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * The maximum number of bytes of off-heap memory used to store the entries
+	 * of each region of the {@link org.hibernate.cache.internal.OffHeapRegionFactory}.
+	 * When a region is full, its oldest entries are evicted.
+	 *
+	 * @settingDefault 64 MiB
+	 *
+	 * @since 6.5
+	 */
+	String OFF_HEAP_CACHE_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
+	/**
+	 * The size, in bytes, of the blocks of off-heap memory which are allocated,
+	 * and evicted, as a unit by the {@link org.hibernate.cache.internal.OffHeapRegionFactory}.
+	 * An entry larger than a block is never cached.
+	 *
+	 * @settingDefault 1 MiB
+	 *
+	 * @since 6.5
+	 */
+	String OFF_HEAP_CACHE_SLAB_SIZE = "hibernate.cache.off_heap.slab_size";
+
+	/**
+	 * The number of seconds after which an entry stored by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory} expires,
+	 * or {@code 0} if entries never expire.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	String OFF_HEAP_CACHE_TIME_TO_LIVE = "hibernate.cache.off_heap.time_to_live";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
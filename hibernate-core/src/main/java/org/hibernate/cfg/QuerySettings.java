@@ -53,6 +53,20 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to check named HQL queries during startup,
+	 * when {@value #QUERY_STARTUP_CHECKING} is enabled. Interpreting HQL is
+	 * CPU-bound, so with many named queries, startup is faster when they are
+	 * checked in parallel, typically using one thread per available processor.
+	 * The threads only live for the duration of the check.
+	 *
+	 * @settingDefault {@code 1}, that is, named queries are checked sequentially
+	 * by the thread building the {@code SessionFactory}
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -224,6 +238,55 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the implementation of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}. Accepts:
+	 * <ul>
+	 *     <li>{@code lirs}, a cache with LIRS eviction and segment locking,
+	 *     <li>{@code tinylfu}, a cache with W-TinyLFU eviction and lock-free
+	 *         reads, which performs better under heavy concurrency, and when
+	 *         there are many more distinct queries than fit in the cache, or
+	 *     <li>an instance of {@code QueryInterpretationCache}.
+	 * </ul>
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheStandardImpl
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
+	/**
+	 * The path of a file to which the HQL queries held in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} are written when the {@code SessionFactory} is
+	 * closed. If the file exists when the {@code SessionFactory} is created,
+	 * the queries it contains are interpreted in parallel, warming the cache
+	 * before the first request arrives.
+	 * <p>
+	 * Queries which are no longer valid for the domain model are skipped.
+	 *
+	 * @see #QUERY_PLAN_CACHE_WARMUP_IN_BACKGROUND
+	 * @see org.hibernate.query.internal.HqlInterpretationSnapshot
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_SNAPSHOT_FILE = "hibernate.query.plan_cache_snapshot_file";
+
+	/**
+	 * When enabled, the queries in the {@linkplain #QUERY_PLAN_CACHE_SNAPSHOT_FILE
+	 * snapshot file} are interpreted in the background, and creation of the
+	 * {@code SessionFactory} does not wait for the cache to be warmed.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	String QUERY_PLAN_CACHE_WARMUP_IN_BACKGROUND = "hibernate.query.plan_cache_warmup_in_background";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -55,6 +55,7 @@ import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.AggregateSupportImpl;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.CastStrEmulation;
 import org.hibernate.dialect.function.CoalesceIfnullEmulation;
@@ -3941,6 +3942,22 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return new AlterTableUniqueDelegate( this );
 	}
 
+	/**
+	 * Get the {@link BulkLoadSupport} for this dialect, which is used by
+	 * {@link org.hibernate.StatelessSession#insertMultiple} to load rows
+	 * using the native bulk load protocol of the database, if enabled via
+	 * {@value org.hibernate.cfg.AvailableSettings#USE_BULK_LOAD}.
+	 *
+	 * @return The BulkLoadSupport, or {@code null} if bulk loading is not
+	 *         supported, in which case JDBC batching is used instead
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	public BulkLoadSupport getBulkLoadSupport() {
+		return null;
+	}
+
 	/**
 	 * Apply a hint to the given SQL query.
 	 * <p>
@@ -4109,6 +4126,50 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return false;
 	}
 
+	/**
+	 * Does the database accept a plain {@code insert} statement with a multi-row
+	 * {@code values} list, of form {@code insert into tab (c0,c1) values (?,?),(?,?)},
+	 * sent as is, without being emulated by the
+	 * {@link org.hibernate.sql.ast.SqlAstTranslator}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_MULTI_ROW_INSERT
+	 * @see #getMultiRowInsertParameterCountLimit()
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of parameters of an {@code insert} statement with a
+	 * multi-row {@code values} list.
+	 *
+	 * @implNote By default, the {@linkplain #getParameterCountLimit parameter count limit},
+	 *           or {@code 2000}, if this dialect doesn't report a limit
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 6.5
+	 */
+	public int getMultiRowInsertParameterCountLimit() {
+		final int limit = getParameterCountLimit();
+		return limit > 0 ? limit : 2000;
+	}
+
+	/**
+	 * Does {@link PreparedStatement#getGeneratedKeys()} return the generated
+	 * identity column value of every row inserted by an {@code insert} statement
+	 * with a multi-row {@code values} list, in the order of the rows?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_MULTI_ROW_INSERT
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the given {@code FETCH} clause type.
 	 *
@@ -4428,6 +4489,34 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect support {@code merge} statements with a {@code values}
+	 * list as the source, of form {@code merge into tab as t using (values (?,?),(?,?))
+	 * as s(c0,c1) on (t.id=s.c1) when matched then update set name=s.c0}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_SET_BASED_UPDATES
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsMergeUsingValuesList() {
+		return false;
+	}
+
+	/**
+	 * Does this dialect support {@code update} statements with a {@code values}
+	 * list in the {@code from} clause, of form {@code update tab as t set name=s.c0
+	 * from (values (cast(? as varchar),cast(? as integer)),...) as s(c0,c1)
+	 * where t.id=s.c1}, with each parameter cast to the type of its column?
+	 * Only used if {@link #supportsMergeUsingValuesList()} returns {@code false}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_SET_BASED_UPDATES
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsUpdateFromValuesList() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
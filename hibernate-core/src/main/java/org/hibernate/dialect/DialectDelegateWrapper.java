@@ -32,6 +32,7 @@ import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.aggregate.AggregateSupport;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.pagination.LimitHandler;
@@ -1178,6 +1179,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getUniqueDelegate();
 	}
 
+	@Override
+	public BulkLoadSupport getBulkLoadSupport() {
+		return wrapped.getBulkLoadSupport();
+	}
+
 	@Override
 	public String getQueryHintString(String query, List<String> hintList) {
 		return wrapped.getQueryHintString( query, hintList );
@@ -1342,6 +1348,31 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsMergeUsingValuesList() {
+		return wrapped.supportsMergeUsingValuesList();
+	}
+
+	@Override
+	public boolean supportsUpdateFromValuesList() {
+		return wrapped.supportsUpdateFromValuesList();
+	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return wrapped.supportsMultiRowInsert();
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		return wrapped.getMultiRowInsertParameterCountLimit();
+	}
+
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return wrapped.supportsMultiRowInsertGeneratedKeys();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
@@ -20,6 +20,8 @@ import org.hibernate.PessimisticLockException;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
+import org.hibernate.dialect.bulk.H2CsvReadBulkLoadSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.hint.IndexQueryHintHandler;
 import org.hibernate.dialect.identity.H2FinalTableIdentityColumnSupport;
@@ -826,6 +828,11 @@ public class H2Dialect extends Dialect {
 		return H2FinalTableIdentityColumnSupport.INSTANCE;
 	}
 
+	@Override
+	public BulkLoadSupport getBulkLoadSupport() {
+		return H2CsvReadBulkLoadSupport.INSTANCE;
+	}
+
 	/**
 	 * @return {@code true} because we can use {@code select ... from final table (insert .... )}
 	 */
@@ -849,6 +856,21 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsMergeUsingValuesList() {
+		return true;
+	}
+
 	@Override
 	public int registerResultSetOutParameter(CallableStatement statement, int position) throws SQLException {
 		return position;
@@ -1238,6 +1238,22 @@ public class MySQLDialect extends Dialect {
 		return MySQLIdentityColumnSupport.INSTANCE;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		// the number of parameters is sent as a 16-bit unsigned integer
+		return 65_535;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean isJdbcLogWarningsEnabledByDefault() {
 		return false;
@@ -27,6 +27,8 @@ import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkLoadSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -1087,6 +1089,32 @@ public class PostgreSQLDialect extends Dialect {
 		return PostgreSQLIdentityColumnSupport.INSTANCE;
 	}
 
+	@Override
+	public boolean supportsUpdateFromValuesList() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertParameterCountLimit() {
+		// the number of parameters is sent as a 16-bit unsigned integer
+		return 65535;
+	}
+
+	@Override
+	public boolean supportsMultiRowInsertGeneratedKeys() {
+		return true;
+	}
+
+	@Override
+	public BulkLoadSupport getBulkLoadSupport() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC ? PostgreSQLCopyBulkLoadSupport.INSTANCE : null;
+	}
+
 	@Override
 	public NationalizationSupport getNationalizationSupport() {
 		return NationalizationSupport.IMPLICIT;
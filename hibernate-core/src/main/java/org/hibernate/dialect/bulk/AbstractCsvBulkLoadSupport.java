@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.SqlTypes;
+
+import static org.hibernate.type.SqlTypes.isCharacterType;
+import static org.hibernate.type.SqlTypes.isEnumType;
+import static org.hibernate.type.SqlTypes.isNumericType;
+import static org.hibernate.type.SqlTypes.isTemporalType;
+
+/**
+ * Base implementation of {@link BulkLoadSupport} for bulk load protocols
+ * which accept rows encoded as CSV text.
+ * <p>
+ * Each value is first passed to the {@link org.hibernate.type.descriptor.ValueBinder}
+ * of its {@link JdbcMapping}, exactly as it would be for a JDBC insert, and
+ * the value the binder passes to the JDBC driver is then rendered as text.
+ * Therefore, any {@linkplain org.hibernate.type.descriptor.converter.spi.BasicValueConverter
+ * conversion} and time zone handling performed by the binder also applies
+ * to bulk loaded values.
+ *
+ * @since 6.5
+ */
+public abstract class AbstractCsvBulkLoadSupport implements BulkLoadSupport {
+
+	/**
+	 * Writes the CSV-encoded rows to a {@link Writer}.
+	 */
+	@FunctionalInterface
+	protected interface CsvRows {
+		void writeTo(Writer writer) throws IOException, SQLException;
+	}
+
+	/**
+	 * The text representing a null value. By default, an unquoted empty
+	 * field, since quoted values are never empty.
+	 */
+	protected String getNullValue() {
+		return "";
+	}
+
+	/**
+	 * Load the given CSV-encoded rows into the given table.
+	 *
+	 * @return the number of rows loaded
+	 */
+	protected abstract long load(
+			String tableName,
+			String[] columnNames,
+			CsvRows rows,
+			SharedSessionContractImplementor session) throws IOException, SQLException;
+
+	@Override
+	public boolean supportsType(JdbcMapping jdbcMapping) {
+		final int typeCode = jdbcMapping.getJdbcType().getDefaultSqlTypeCode();
+		switch ( typeCode ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+			case SqlTypes.UUID:
+				return true;
+			default:
+				return isNumericType( typeCode )
+						|| isCharacterType( typeCode )
+						|| isTemporalType( typeCode )
+						|| isEnumType( typeCode );
+		}
+	}
+
+	@Override
+	public long load(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) {
+		try {
+			return load(
+					tableName,
+					columnNames,
+					writer -> writeRows( writer, jdbcMappings, rows, session ),
+					session
+			);
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "could not bulk load rows into table '" + tableName + "'" );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "could not bulk load rows into table '" + tableName + "'", e );
+		}
+	}
+
+	private void writeRows(
+			Writer writer,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session) throws IOException, SQLException {
+		final CapturedValue capturedValue = new CapturedValue();
+		final PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[] { PreparedStatement.class },
+				capturedValue
+		);
+		for ( Object[] row : rows ) {
+			for ( int i = 0; i < row.length; i++ ) {
+				if ( i > 0 ) {
+					writer.write( ',' );
+				}
+				final Object value = row[i];
+				if ( value != null ) {
+					jdbcMappings[i].getJdbcValueBinder().bind( statement, value, 1, session );
+				}
+				if ( value == null || capturedValue.value == null ) {
+					writer.write( getNullValue() );
+				}
+				else {
+					writeQuoted( writer, toText( capturedValue.value, capturedValue.calendar ) );
+				}
+				capturedValue.value = null;
+				capturedValue.calendar = null;
+			}
+			writer.write( '\n' );
+		}
+	}
+
+	/**
+	 * Render a value, as passed by a binder to the JDBC driver, as text.
+	 */
+	protected String toText(Object value, Calendar calendar) {
+		if ( value instanceof BigDecimal ) {
+			return ( (BigDecimal) value ).toPlainString();
+		}
+		else if ( value instanceof Timestamp && calendar != null ) {
+			// the driver would have written the timestamp in the time zone of the calendar
+			final Timestamp timestamp = (Timestamp) value;
+			return Timestamp.valueOf(
+					timestamp.toInstant().atZone( calendar.getTimeZone().toZoneId() ).toLocalDateTime()
+			).toString();
+		}
+		else {
+			return value.toString();
+		}
+	}
+
+	private static void writeQuoted(Writer writer, String text) throws IOException {
+		writer.write( '"' );
+		for ( int i = 0; i < text.length(); i++ ) {
+			final char c = text.charAt( i );
+			if ( c == '"' ) {
+				writer.write( '"' );
+			}
+			writer.write( c );
+		}
+		writer.write( '"' );
+	}
+
+	/**
+	 * Records the value passed to {@code setXxx()} by a
+	 * {@link org.hibernate.type.descriptor.ValueBinder}.
+	 */
+	private static class CapturedValue implements InvocationHandler {
+		private Object value;
+		private Calendar calendar;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if ( method.getName().startsWith( "set" ) && args != null && args.length >= 2 ) {
+				value = method.getName().equals( "setNull" ) ? null : args[1];
+				calendar = args.length > 2 && args[2] instanceof Calendar ? (Calendar) args[2] : null;
+				return null;
+			}
+			throw new UnsupportedOperationException(
+					"Bulk load does not support values bound using '" + method.getName() + "()'"
+			);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * Dialect-level delegate responsible for loading rows into a table using a
+ * database-native bulk load protocol, for example, {@code COPY ... FROM STDIN}
+ * on PostgreSQL. For very large
+ * imports, such protocols are usually much faster than JDBC batching.
+ * <p>
+ * Bulk loading is opt-in, and is enabled using
+ * {@value org.hibernate.cfg.AvailableSettings#USE_BULK_LOAD}. It is used by
+ * {@link org.hibernate.StatelessSession#insertMultiple} for entities which map
+ * to a single table, and which have no generated values other than an identifier
+ * generated before insertion.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkLoadSupport()
+ *
+ * @since 6.5
+ */
+@Incubating
+public interface BulkLoadSupport {
+	/**
+	 * Can values of the given type be loaded by this bulk load strategy?
+	 */
+	boolean supportsType(JdbcMapping jdbcMapping);
+
+	/**
+	 * Load the given rows into the given table.
+	 *
+	 * @param tableName the name of the table
+	 * @param columnNames the names of the columns to be loaded
+	 * @param jdbcMappings the types of the columns, used to encode values
+	 * @param rows the rows, each an array of JDBC values in the same order as
+	 *             the column names
+	 * @param session the session, which provides the JDBC connection
+	 *
+	 * @return the number of rows loaded
+	 */
+	long load(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			List<Object[]> rows,
+			SharedSessionContractImplementor session);
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link BulkLoadSupport} for H2 which writes rows to a temporary
+ * file, and then loads them using {@code insert ... select} from the
+ * {@code CSVREAD()} table function.
+ * <p>
+ * Since the file is read by the database, and not by the driver, this
+ * only works with the embedded and in-memory modes of H2.
+ *
+ * @since 6.5
+ */
+public class H2CsvReadBulkLoadSupport extends AbstractCsvBulkLoadSupport {
+	public static final H2CsvReadBulkLoadSupport INSTANCE = new H2CsvReadBulkLoadSupport();
+
+	@Override
+	protected long load(
+			String tableName,
+			String[] columnNames,
+			CsvRows rows,
+			SharedSessionContractImplementor session) throws IOException, SQLException {
+		// the column names of the CSV data, so that
+		// the first row is not taken to be a header
+		final StringBuilder csvColumnNames = new StringBuilder();
+		for ( int i = 1; i <= columnNames.length; i++ ) {
+			if ( i > 1 ) {
+				csvColumnNames.append( ',' );
+			}
+			csvColumnNames.append( 'C' ).append( i );
+		}
+
+		final Path file = Files.createTempFile( "hibernate-bulk-load", ".csv" );
+		try {
+			try ( Writer writer = Files.newBufferedWriter( file, UTF_8 ) ) {
+				rows.writeTo( writer );
+			}
+
+			// CSVREAD() needs to know the file and columns when the
+			// statement is prepared, so they can't be JDBC parameters
+			final String sql = "insert into " + tableName + " (" + String.join( ",", columnNames ) + ")"
+					+ " select * from csvread(" + literal( file.toAbsolutePath().toString() )
+					+ "," + literal( csvColumnNames.toString() ) + ",'charset=UTF-8')";
+
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				return jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private static String literal(String value) {
+		return "'" + value.replace( "'", "''" ) + "'";
+	}
+}
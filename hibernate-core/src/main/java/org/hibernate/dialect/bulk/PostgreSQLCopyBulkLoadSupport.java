@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link BulkLoadSupport} which streams rows to PostgreSQL using
+ * {@code COPY ... FROM STDIN} in CSV format, via the {@code CopyManager}
+ * API of the PostgreSQL JDBC driver.
+ * <p>
+ * The driver classes are accessed reflectively, since the driver is not
+ * a required dependency of Hibernate.
+ *
+ * @since 6.5
+ */
+public class PostgreSQLCopyBulkLoadSupport extends AbstractCsvBulkLoadSupport {
+	public static final PostgreSQLCopyBulkLoadSupport INSTANCE = new PostgreSQLCopyBulkLoadSupport();
+
+	@Override
+	protected long load(
+			String tableName,
+			String[] columnNames,
+			CsvRows rows,
+			SharedSessionContractImplementor session) throws IOException, SQLException {
+		final String sql = "copy " + tableName + " (" + String.join( ",", columnNames ) + ")"
+				+ " from stdin with (format csv)";
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+
+		final ClassLoaderService classLoaderService =
+				session.getFactory().getServiceRegistry().requireService( ClassLoaderService.class );
+		final Class<?> pgConnectionClass = classLoaderService.classForName( "org.postgresql.PGConnection" );
+		final Class<?> copyManagerClass = classLoaderService.classForName( "org.postgresql.copy.CopyManager" );
+		final Class<?> copyInClass = classLoaderService.classForName( "org.postgresql.copy.CopyIn" );
+		final Method getCopyApi;
+		final Method copyIn;
+		final Method writeToCopy;
+		final Method endCopy;
+		final Method isActive;
+		final Method cancelCopy;
+		try {
+			getCopyApi = pgConnectionClass.getMethod( "getCopyAPI" );
+			copyIn = copyManagerClass.getMethod( "copyIn", String.class );
+			writeToCopy = copyInClass.getMethod( "writeToCopy", byte[].class, int.class, int.class );
+			endCopy = copyInClass.getMethod( "endCopy" );
+			isActive = copyInClass.getMethod( "isActive" );
+			cancelCopy = copyInClass.getMethod( "cancelCopy" );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException( "Unsupported version of the PostgreSQL JDBC driver", e );
+		}
+
+		final Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+		final Object copyManager = invoke( getCopyApi, connection.unwrap( pgConnectionClass ) );
+		final Object copyOperation = invoke( copyIn, copyManager, sql );
+		try {
+			final OutputStream copyStream = new OutputStream() {
+				@Override
+				public void write(int b) throws IOException {
+					write( new byte[] { (byte) b }, 0, 1 );
+				}
+
+				@Override
+				public void write(byte[] bytes, int offset, int length) throws IOException {
+					try {
+						invoke( writeToCopy, copyOperation, bytes, offset, length );
+					}
+					catch (SQLException e) {
+						throw new IOException( e );
+					}
+				}
+			};
+			// closing the writer would not end the copy, so just flush it
+			final Writer writer = new BufferedWriter( new OutputStreamWriter( copyStream, UTF_8 ) );
+			rows.writeTo( writer );
+			writer.flush();
+			return (Long) invoke( endCopy, copyOperation );
+		}
+		catch (IOException | SQLException | RuntimeException e) {
+			if ( (Boolean) invoke( isActive, copyOperation ) ) {
+				invoke( cancelCopy, copyOperation );
+			}
+			if ( e instanceof IOException && e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static Object invoke(Method method, Object target, Object... args) throws SQLException {
+		try {
+			return method.invoke( target, args );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw new HibernateException( "Could not invoke '" + method.getName() + "()'", e.getCause() );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Could not invoke '" + method.getName() + "()'", e );
+		}
+	}
+}
@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Support for {@link org.hibernate.dialect.Dialect}-specific bulk loading of rows,
+ * using the native bulk load protocol of the database instead of JDBC batching.
+ *
+ * @see org.hibernate.dialect.bulk.BulkLoadSupport
+ */
+package org.hibernate.dialect.bulk;
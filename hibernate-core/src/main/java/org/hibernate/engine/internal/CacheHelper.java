@@ -65,6 +65,84 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Read the entries for all the given keys in a single operation, for
+	 * which a single cache get is reported, counted as a hit if any of the
+	 * entries is found.
+	 *
+	 * @return the entries, in the order of the given keys
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && containsNonNull( cachedValues );
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Read the entries for all the given collection keys in a single
+	 * operation, for which a single cache get is reported, counted as a
+	 * hit if any of the entries is found.
+	 *
+	 * @return the entries, in the order of the given keys
+	 */
+	public static Object[] fromSharedCache(
+			SharedSessionContractImplementor session,
+			Object[] cacheKeys,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Object[] cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && containsNonNull( cachedValues );
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	private static boolean containsNonNull(Object[] values) {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public static Object fromSharedCache(
 			SharedSessionContractImplementor session,
 			Object cacheKey,
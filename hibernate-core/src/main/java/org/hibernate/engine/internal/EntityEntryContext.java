@@ -17,16 +17,21 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptableOrNull;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
@@ -58,6 +63,9 @@ public class EntityEntryContext {
 
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
+	private transient Set<EntityPersister> entityPersisters;
+	private transient EntityPersister lastEntityPersister;
+
 	@SuppressWarnings("unchecked")
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
@@ -128,6 +136,7 @@ public class EntityEntryContext {
 
 		// associate the EntityEntry with the entity
 		managedEntity.$$_hibernate_setEntityEntry( entityEntry );
+		addEntityPersister( entityEntry.getPersister() );
 
 		if ( alreadyAssociated ) {
 			// if the entity was already associated with the context, skip the linking step.
@@ -156,6 +165,26 @@ public class EntityEntryContext {
 		}
 	}
 
+	private void addEntityPersister(EntityPersister persister) {
+		// entities are very often added in runs of the same type
+		if ( persister != lastEntityPersister ) {
+			if ( entityPersisters == null ) {
+				entityPersisters = new HashSet<>();
+			}
+			entityPersisters.add( persister );
+			lastEntityPersister = persister;
+		}
+	}
+
+	/**
+	 * The persisters of all entities added to this context since it was last
+	 * cleared. Since persisters are not removed when their entities are, this
+	 * might include persisters with no remaining entities.
+	 */
+	public Set<EntityPersister> getEntityPersisters() {
+		return entityPersisters == null ? emptySet() : unmodifiableSet( entityPersisters );
+	}
+
 	private ManagedEntity getAssociatedManagedEntity(Object entity) {
 		if ( isManagedEntity( entity ) ) {
 			final ManagedEntity managedEntity = asManagedEntity( entity );
@@ -385,6 +414,9 @@ public class EntityEntryContext {
 		tail = null;
 		count = 0;
 
+		entityPersisters = null;
+		lastEntityPersister = null;
+
 		reentrantSafeEntries = null;
 	}
 
@@ -502,6 +534,7 @@ public class EntityEntryContext {
 				context.nonEnhancedEntityXref.put( entity, managedEntity );
 			}
 			managedEntity.$$_hibernate_setEntityEntry( entry );
+			context.addEntityPersister( entry.getPersister() );
 
 			if ( previous == null ) {
 				context.head = managedEntity;
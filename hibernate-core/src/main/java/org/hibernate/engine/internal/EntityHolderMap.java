@@ -0,0 +1,351 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A compact map from {@link EntityKey} to {@link EntityHolder}, used by
+ * {@link StatefulPersistenceContext} in place of a {@link java.util.HashMap}.
+ * <p>
+ * Since every holder already references its own key, the map needs to store
+ * only the holders, in a single open-addressing table with linear probing,
+ * along with the hash code of each key. Compared to a {@code HashMap}, this
+ * avoids the allocation of a node per entity, and roughly halves the memory
+ * used by the map itself, which matters for sessions holding very many
+ * entities. Removal uses backward shifting, so that the table never
+ * accumulates tombstones.
+ * <p>
+ * The map must only ever associate a holder with its own key. The views
+ * returned by {@link #entrySet()}, {@link #keySet()} and {@link #values()}
+ * do not support removal, and their iterators fail fast, like those of a
+ * {@code HashMap}, if an entry is added or removed during iteration.
+ *
+ * @param <H> the type of holder
+ */
+final class EntityHolderMap<H extends EntityHolder> extends AbstractMap<EntityKey, H> {
+	private static final int MINIMUM_CAPACITY = 8;
+
+	private Object[] holders;
+	private int[] hashes;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+	// incremented by every insertion or removal, so that iterators fail fast
+	private int modCount;
+
+	EntityHolderMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		final int minimum = Math.max( MINIMUM_CAPACITY, expectedSize + ( expectedSize >> 1 ) + 1 );
+		return Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		holders = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity / 3 * 2;
+	}
+
+	private int indexFor(int hash) {
+		final int mixed = hash * 0x9E3779B9;
+		return ( mixed ^ ( mixed >>> 16 ) ) & mask;
+	}
+
+	private int find(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return -1;
+		}
+		final int hash = key.hashCode();
+		int index = indexFor( hash );
+		Object holder;
+		while ( ( holder = holders[index] ) != null ) {
+			if ( hashes[index] == hash ) {
+				final EntityKey candidate = ( (EntityHolder) holder ).getEntityKey();
+				if ( candidate == key || candidate.equals( key ) ) {
+					return index;
+				}
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private H holderAt(int index) {
+		return (H) holders[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find( key ) >= 0;
+	}
+
+	@Override
+	public H get(Object key) {
+		final int index = find( key );
+		return index < 0 ? null : holderAt( index );
+	}
+
+	@Override
+	public H put(EntityKey key, H holder) {
+		return insert( key, holder, false );
+	}
+
+	@Override
+	public H putIfAbsent(EntityKey key, H holder) {
+		return insert( key, holder, true );
+	}
+
+	@Override
+	public H computeIfAbsent(EntityKey key, Function<? super EntityKey, ? extends H> mappingFunction) {
+		final H existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final H holder = mappingFunction.apply( key );
+		if ( holder != null ) {
+			insert( key, holder, false );
+		}
+		return holder;
+	}
+
+	private H insert(EntityKey key, H holder, boolean onlyIfAbsent) {
+		assert holder != null && holder.getEntityKey().equals( key );
+		final int hash = key.hashCode();
+		int index = indexFor( hash );
+		Object existing;
+		while ( ( existing = holders[index] ) != null ) {
+			if ( hashes[index] == hash ) {
+				final EntityKey candidate = ( (EntityHolder) existing ).getEntityKey();
+				if ( candidate == key || candidate.equals( key ) ) {
+					final H previous = holderAt( index );
+					if ( !onlyIfAbsent ) {
+						holders[index] = holder;
+					}
+					return previous;
+				}
+			}
+			index = ( index + 1 ) & mask;
+		}
+		holders[index] = holder;
+		hashes[index] = hash;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final Object[] oldHolders = holders;
+		final int[] oldHashes = hashes;
+		allocate( oldHolders.length << 1 );
+		for ( int i = 0; i < oldHolders.length; i++ ) {
+			final Object holder = oldHolders[i];
+			if ( holder != null ) {
+				int index = indexFor( oldHashes[i] );
+				while ( holders[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				holders[index] = holder;
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	public H remove(Object key) {
+		final int index = find( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final H removed = holderAt( index );
+		removeAt( index );
+		return removed;
+	}
+
+	private void removeAt(int index) {
+		size--;
+		modCount++;
+		// shift back any following entries whose probe sequence passes
+		// through the freed slot, so that lookups never hit a gap
+		int free = index;
+		int current = index;
+		while ( true ) {
+			current = ( current + 1 ) & mask;
+			final Object holder = holders[current];
+			if ( holder == null ) {
+				break;
+			}
+			final int ideal = indexFor( hashes[current] );
+			// move the entry unless its ideal slot lies cyclically in (free, current]
+			final boolean stays = free <= current
+					? free < ideal && ideal <= current
+					: free < ideal || ideal <= current;
+			if ( !stays ) {
+				holders[free] = holder;
+				hashes[free] = hashes[current];
+				free = current;
+			}
+		}
+		holders[free] = null;
+		hashes[free] = 0;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( holders, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Collection<H> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<H> iterator() {
+				return new HolderIterator<>() {
+					@Override
+					H toElement(H holder) {
+						return holder;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<EntityKey> iterator() {
+				return new HolderIterator<>() {
+					@Override
+					EntityKey toElement(H holder) {
+						return holder.getEntityKey();
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object key) {
+				return containsKey( key );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<EntityKey, H>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, H>> iterator() {
+				return new HolderIterator<>() {
+					@Override
+					Entry<EntityKey, H> toElement(H holder) {
+						return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class HolderIterator<E> implements Iterator<E> {
+		private final Object[] table = holders;
+		private final int expectedModCount = modCount;
+		private int index = advance( 0 );
+
+		private int advance(int from) {
+			int i = from;
+			while ( i < table.length && table[i] == null ) {
+				i++;
+			}
+			return i;
+		}
+
+		abstract E toElement(H holder);
+
+		@Override
+		public boolean hasNext() {
+			return index < table.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( index >= table.length ) {
+				throw new NoSuchElementException();
+			}
+			final H holder = (H) table[index];
+			index = advance( index + 1 );
+			return toElement( holder );
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder( "{" );
+		boolean first = true;
+		for ( Object holder : holders ) {
+			if ( holder != null ) {
+				if ( !first ) {
+					result.append( ", " );
+				}
+				first = false;
+				result.append( ( (EntityHolder) holder ).getEntityKey() ).append( '=' ).append( holder );
+			}
+		}
+		return result.append( '}' ).toString();
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+
+/**
+ * Adjusts the size of the JDBC batches of each {@link BatchKey}, so that the
+ * execution of a batch takes about as long as a target execution time.
+ * <p>
+ * The execution time of a batch is assumed to be a fixed overhead, such as the
+ * network round trip, plus a cost per row. For each key, the average time per
+ * row over the recent executions is tracked, and the next batch size is the
+ * target time divided by this average, which converges to the size where the
+ * batch takes the target time. Each adjustment at most halves or doubles the
+ * batch size, and changes of less than a tenth are ignored, to dampen noise.
+ * The average number of bytes bound per row is tracked too, for logging.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY
+ */
+class AdaptiveBatchSizing {
+	// weight of the latest execution in the averages
+	private static final double SMOOTHING = 0.5;
+
+	private final long targetNanos;
+	// the source of the execution times, replaced by tests
+	private final LongSupplier clock;
+	private final Map<BatchKey, KeyStatistics> statisticsByKey = new ConcurrentHashMap<>();
+
+	AdaptiveBatchSizing(long targetMillis) {
+		this( targetMillis, System::nanoTime );
+	}
+
+	AdaptiveBatchSizing(long targetMillis, LongSupplier clock) {
+		this.targetNanos = TimeUnit.MILLISECONDS.toNanos( targetMillis );
+		this.clock = clock;
+	}
+
+	/**
+	 * The current time, in nanoseconds, used to measure the execution time of a batch.
+	 */
+	long nanoTime() {
+		return clock.getAsLong();
+	}
+
+	private static class KeyStatistics {
+		private int batchSize;
+		private double nanosPerRow;
+		private double bytesPerRow;
+
+		private KeyStatistics(int batchSize) {
+			this.batchSize = batchSize;
+		}
+	}
+
+	/**
+	 * The size to use for the next batch of the given key.
+	 */
+	int getBatchSize(BatchKey key, int maxBatchSize) {
+		final KeyStatistics statistics = statisticsByKey.get( key );
+		if ( statistics == null ) {
+			return maxBatchSize;
+		}
+		synchronized ( statistics ) {
+			return Math.min( statistics.batchSize, maxBatchSize );
+		}
+	}
+
+	/**
+	 * Record the execution of a batch of the given key.
+	 *
+	 * @param rows The number of rows in the batch
+	 * @param nanos The execution time of the batch
+	 * @param bytes The estimated number of bytes bound to the batch
+	 */
+	void batchExecuted(
+			BatchKey key,
+			int maxBatchSize,
+			int rows,
+			long nanos,
+			long bytes,
+			StatisticsImplementor statisticsImplementor) {
+		if ( rows <= 0 ) {
+			return;
+		}
+		final KeyStatistics statistics =
+				statisticsByKey.computeIfAbsent( key, k -> new KeyStatistics( maxBatchSize ) );
+		final int previousBatchSize;
+		final int batchSize;
+		final double nanosPerRow;
+		final double bytesPerRow;
+		synchronized ( statistics ) {
+			final double executionNanosPerRow = (double) nanos / rows;
+			final double executionBytesPerRow = (double) bytes / rows;
+			if ( statistics.nanosPerRow == 0 ) {
+				statistics.nanosPerRow = executionNanosPerRow;
+				statistics.bytesPerRow = executionBytesPerRow;
+			}
+			else {
+				statistics.nanosPerRow += SMOOTHING * ( executionNanosPerRow - statistics.nanosPerRow );
+				statistics.bytesPerRow += SMOOTHING * ( executionBytesPerRow - statistics.bytesPerRow );
+			}
+			nanosPerRow = statistics.nanosPerRow;
+			bytesPerRow = statistics.bytesPerRow;
+			previousBatchSize = statistics.batchSize;
+			batchSize = nextBatchSize( previousBatchSize, maxBatchSize, nanosPerRow );
+			if ( batchSize == previousBatchSize ) {
+				return;
+			}
+			statistics.batchSize = batchSize;
+		}
+
+		if ( BATCH_LOGGER.isDebugEnabled() ) {
+			BATCH_LOGGER.debugf(
+					"Adjusted JDBC batch size from %s to %s (%s ns and %s bytes per row) - `%s`",
+					previousBatchSize,
+					batchSize,
+					(long) nanosPerRow,
+					(long) bytesPerRow,
+					key.toLoggableString()
+			);
+		}
+		if ( statisticsImplementor != null && statisticsImplementor.isStatisticsEnabled() ) {
+			statisticsImplementor.jdbcBatchSizeAdjusted( key.toLoggableString(), previousBatchSize, batchSize );
+		}
+	}
+
+	private int nextBatchSize(int previousBatchSize, int maxBatchSize, double nanosPerRow) {
+		long batchSize = nanosPerRow == 0 ? maxBatchSize : (long) ( targetNanos / nanosPerRow );
+		batchSize = Math.min( batchSize, previousBatchSize * 2L );
+		batchSize = Math.max( batchSize, previousBatchSize / 2 );
+		batchSize = Math.max( 1, Math.min( batchSize, maxBatchSize ) );
+		if ( Math.abs( batchSize - previousBatchSize ) * 10 < previousBatchSize
+				&& batchSize != maxBatchSize && batchSize != 1 ) {
+			// not worth it
+			return previousBatchSize;
+		}
+		return (int) batchSize;
+	}
+
+	/**
+	 * Estimate the number of bytes sent to the database for the given bound value.
+	 */
+	static long estimateSize(Object value) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof byte[] ) {
+			return ( (byte[]) value ).length;
+		}
+		else if ( value instanceof CharSequence ) {
+			return ( (CharSequence) value ).length();
+		}
+		else if ( value instanceof char[] ) {
+			return ( (char[]) value ).length;
+		}
+		else if ( value instanceof Blob ) {
+			try {
+				return ( (Blob) value ).length();
+			}
+			catch (SQLException e) {
+				return 0;
+			}
+		}
+		else if ( value instanceof Clob ) {
+			try {
+				return ( (Clob) value ).length();
+			}
+			catch (SQLException e) {
+				return 0;
+			}
+		}
+		else {
+			return 8;
+		}
+	}
+}
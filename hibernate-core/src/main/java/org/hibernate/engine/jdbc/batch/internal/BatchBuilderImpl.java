@@ -7,9 +7,12 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -17,6 +20,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +32,11 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService executor;
+	private final AdaptiveBatchSizing adaptiveBatchSizing;
+	private final boolean setBasedUpdates;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,6 +45,71 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether full batches are executed by a background thread
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining) {
+		this( globalBatchSize, pipelining, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The maximum batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether full batches are executed by a background thread
+	 * @param targetLatency The target execution time of a batch, in milliseconds,
+	 * or {@code 0} to always use the maximum batch size
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining, long targetLatency) {
+		this( globalBatchSize, pipelining, targetLatency, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The maximum batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether full batches are executed by a background thread
+	 * @param targetLatency The target execution time of a batch, in milliseconds,
+	 * or {@code 0} to always use the maximum batch size
+	 * @param setBasedUpdates Whether batches of updates are executed as a single
+	 * {@code merge} statement, where possible
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_SET_BASED_UPDATES
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining, long targetLatency, boolean setBasedUpdates) {
+		this(
+				globalBatchSize,
+				pipelining ? createExecutor() : null,
+				targetLatency > 0 ? new AdaptiveBatchSizing( targetLatency ) : null,
+				setBasedUpdates
+		);
+	}
+
+	/**
+	 * @param executor The executor of full batches, or {@code null} if not pipelining
+	 * @param adaptiveBatchSizing Adjusts the batch sizes, or {@code null} to always use the maximum
+	 */
+	BatchBuilderImpl(
+			int globalBatchSize,
+			ExecutorService executor,
+			AdaptiveBatchSizing adaptiveBatchSizing,
+			boolean setBasedUpdates) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Using standard BatchBuilder (%s)",
@@ -46,6 +118,17 @@ public class BatchBuilderImpl implements BatchBuilder {
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.executor = executor;
+		this.adaptiveBatchSizing = adaptiveBatchSizing;
+		this.setBasedUpdates = setBasedUpdates;
+	}
+
+	private static ExecutorService createExecutor() {
+		return Executors.newCachedThreadPool( runnable -> {
+			final Thread thread = new Thread( runnable, "hibernate-batch-execution" );
+			thread.setDaemon( true );
+			return thread;
+		} );
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +146,39 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( setBasedUpdates ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getJdbcServices()
+					.getDialect();
+			if ( ( dialect.supportsMergeUsingValuesList() || dialect.supportsUpdateFromValuesList() )
+					&& SetBasedUpdateBatch.isSetBasedUpdate( statementGroup, dialect ) ) {
+				return new SetBasedUpdateBatch(
+						key,
+						(PreparedStatementGroupSingleTable) statementGroup,
+						batchSize,
+						jdbcCoordinator
+				);
+			}
+		}
+
+		return new BatchImpl(
+				key,
+				statementGroup,
+				executor == null ? null : statementGroupSupplier,
+				executor,
+				adaptiveBatchSizing,
+				batchSize,
+				jdbcCoordinator
+		);
+	}
+
+	@Override
+	public void stop() {
+		if ( executor != null ) {
+			executor.shutdown();
+		}
 	}
 
 
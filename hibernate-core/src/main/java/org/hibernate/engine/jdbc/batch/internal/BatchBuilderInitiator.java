@@ -44,7 +44,10 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues ),
+					ConfigurationHelper.getLong( BatchSettings.BATCH_TARGET_LATENCY, configurationValues, 0 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_SET_BASED_UPDATES, configurationValues )
 			);
 		}
 
@@ -9,6 +9,10 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -18,6 +22,8 @@ import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -34,13 +40,37 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
 
 /**
  * Standard implementation of Batch
+ * <p>
+ * If {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING pipelining} is enabled,
+ * a full batch is executed by the given {@link Executor}, and the following batch is bound
+ * to the statements of a second {@link PreparedStatementGroup} in the meantime.
+ * <p>
+ * If a {@linkplain org.hibernate.cfg.BatchSettings#BATCH_TARGET_LATENCY target latency}
+ * is configured, the size of the batch is adjusted after every execution, up to the
+ * configured batch size, by the given {@link AdaptiveBatchSizing}.
  *
  * @author Steve Ebersole
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
-	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private final int maxBatchSize;
+	private int batchSizeToUse;
+	private PreparedStatementGroup statementGroup;
+
+	// only used when adapting the batch size
+	private final AdaptiveBatchSizing adaptiveBatchSizing;
+	private long batchBytes;
+
+	// only used when pipelining
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor executor;
+	private PreparedStatementGroup spareStatementGroup;
+	private CompletableFuture<Void> pendingExecution;
+	// the session is notified of the pending execution on its own thread
+	private HibernateMonitoringEvent pendingExecutionEvent;
+	private String pendingExecutionSql;
+	// whether the statements of the current group are being prepared and bound
+	private boolean binding;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -56,6 +86,37 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, null, null, batchSizeToUse, jdbcCoordinator );
+	}
+
+	/**
+	 * Creates a batch which executes full batches using the given {@link Executor}.
+	 *
+	 * @param statementGroupSupplier Supplies the two statement groups which are used alternately
+	 */
+	public BatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			Executor executor,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroupSupplier.get(), statementGroupSupplier, executor, null, batchSizeToUse, jdbcCoordinator );
+	}
+
+	/**
+	 * @param statementGroupSupplier Supplies the second statement group, or {@code null} if not pipelining
+	 * @param executor The executor of full batches, or {@code null} if not pipelining
+	 * @param adaptiveBatchSizing Adjusts the batch size, or {@code null} to always use {@code batchSizeToUse}
+	 * @param batchSizeToUse The batch size to use, or the maximum batch size, if adapting
+	 */
+	BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			Executor executor,
+			AdaptiveBatchSizing adaptiveBatchSizing,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -66,12 +127,18 @@ public class BatchImpl implements Batch {
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
-		this.batchSizeToUse = batchSizeToUse;
+		this.adaptiveBatchSizing = adaptiveBatchSizing;
+		this.maxBatchSize = batchSizeToUse;
+		this.batchSizeToUse = adaptiveBatchSizing == null
+				? batchSizeToUse
+				: adaptiveBatchSizing.getBatchSize( key, batchSizeToUse );
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
@@ -108,6 +175,7 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		binding = true;
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				if ( inclusionChecker != null && !inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
@@ -124,6 +192,9 @@ public class BatchImpl implements Batch {
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				if ( adaptiveBatchSizing != null ) {
+					addBatchBytes( jdbcValueBindings, tableName );
+				}
 				jdbcValueBindings.beforeStatement( statementDetails );
 
 				try {
@@ -146,17 +217,145 @@ public class BatchImpl implements Batch {
 			abortBatch( e );
 			throw e;
 		}
+		finally {
+			binding = false;
+		}
 
 		batchPosition++;
-		if ( batchPosition == batchSizeToUse ) {
-			notifyObserversImplicitExecution();
-			performExecution();
+		if ( batchPosition >= batchSizeToUse ) {
+			if ( executor == null ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+			}
+			else {
+				// observers are notified once the execution completes
+				performPipelinedExecution();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
+			if ( adaptiveBatchSizing != null ) {
+				batchSizeToUse = adaptiveBatchSizing.getBatchSize( key, maxBatchSize );
+			}
+		}
+	}
+
+	private void addBatchBytes(JdbcValueBindings jdbcValueBindings, String tableName) {
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+		if ( bindingGroup != null ) {
+			for ( Binding binding : bindingGroup.getBindings() ) {
+				batchBytes += AdaptiveBatchSizing.estimateSize( binding.getValue() );
+			}
+		}
+	}
+
+	/**
+	 * Hand the statements of the full batch to the executor, once the execution
+	 * of the previous batch completes, and bind the next batch to the other group
+	 * of statements.
+	 * <p>
+	 * The {@link JdbcObserver} and the monitoring events of the session are not
+	 * thread-safe, so they are notified here, and when the execution completes,
+	 * on the thread of the session, rather than by the executor.
+	 */
+	private void performPipelinedExecution() {
+		awaitPendingExecution();
+		final PreparedStatementGroup executingStatementGroup = statementGroup;
+		final int executingBatchPosition = batchPosition;
+		final long executingBatchBytes = batchBytes;
+		batchBytes = 0;
+		statementGroup = spareStatementGroup == null ? statementGroupSupplier.get() : spareStatementGroup;
+		spareStatementGroup = executingStatementGroup;
+
+		pendingExecutionSql = identifierTableSql( executingStatementGroup );
+		if ( pendingExecutionSql != null ) {
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			pendingExecutionEvent = jdbcSessionOwner.getEventManager().beginJdbcBatchExecutionEvent();
+			jdbcSessionOwner.getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+		}
+		pendingExecution = CompletableFuture.runAsync(
+				() -> executeStatements( executingStatementGroup, executingBatchPosition, executingBatchBytes, false ),
+				executor
+		);
+	}
+
+	private static String identifierTableSql(PreparedStatementGroup statementGroup) {
+		final String[] sql = new String[1];
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null
+					&& statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				sql[0] = statementDetails.getSqlString();
+			}
+		} );
+		return sql[0];
+	}
+
+	/**
+	 * Wait until the execution of the previous full batch, if any, completes.
+	 * Must be called before any other statement is prepared or executed.
+	 * <p>
+	 * Does not wait while the statements of the next batch are being prepared
+	 * and bound, since they belong to the other group of statements, which the
+	 * pending execution does not use.
+	 *
+	 * @throws RuntimeException if the execution failed, after the batch was aborted
+	 */
+	public void awaitPendingExecution() {
+		if ( binding ) {
+			return;
+		}
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			RuntimeException failure = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				failure = e.getCause() instanceof RuntimeException
+						? (RuntimeException) e.getCause()
+						: e;
+			}
+			pendingExecutionCompleted();
+			if ( failure != null ) {
+				abortBatch( failure );
+				throw failure;
+			}
+			notifyObserversImplicitExecution();
+		}
+	}
+
+	private void pendingExecutionCompleted() {
+		if ( pendingExecutionSql != null ) {
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			jdbcSessionOwner.getEventManager()
+					.completeJdbcBatchExecutionEvent( pendingExecutionEvent, pendingExecutionSql );
+			jdbcSessionOwner.getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+			pendingExecutionEvent = null;
+			pendingExecutionSql = null;
 		}
 	}
 
 	protected void releaseStatements() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			// we're aborting, so any failure of the execution is only a consequence
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				BATCH_LOGGER.debug( "Pending batch execution failed on release", e );
+			}
+			pendingExecutionCompleted();
+		}
+		if ( spareStatementGroup != null ) {
+			releaseStatements( spareStatementGroup );
+		}
+		releaseStatements( statementGroup );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -170,7 +369,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -228,6 +426,7 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
+			awaitPendingExecution();
 			if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
@@ -248,11 +447,37 @@ public class BatchImpl implements Batch {
 	}
 
 	protected void performExecution() {
+		try {
+			executeStatements( getStatementGroup(), batchPosition, batchBytes, true );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			batchPosition = 0;
+			batchBytes = 0;
+		}
+	}
+
+	/**
+	 * Execute the statements of the given group, which have the given number of
+	 * rows and estimated number of bytes added.  Only accesses state of this batch
+	 * which is not modified while {@linkplain #performPipelinedExecution pipelining}.
+	 *
+	 * @param notifySession Whether to notify the observer and monitoring events of
+	 * the session, which must only be done on the thread of the session
+	 */
+	private void executeStatements(
+			PreparedStatementGroup statementGroup,
+			int batchPosition,
+			long batchBytes,
+			boolean notifySession) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
 					"Executing JDBC batch (%s / %s) - `%s`",
 					batchPosition,
-					batchSizeToUse,
+					maxBatchSize,
 					getKey().toLoggableString()
 			);
 		}
@@ -260,52 +485,65 @@ public class BatchImpl implements Batch {
 		//noinspection deprecation
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
-		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
+		final long start = adaptiveBatchSizing == null ? 0 : adaptiveBatchSizing.nanoTime();
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
 
-				if ( statement == null ) {
-					return;
-				}
+			if ( statement == null ) {
+				return;
+			}
 
-				try {
+			try {
+				if ( !notifySession ) {
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						final EventManager eventManager = jdbcSessionOwner.getEventManager();
-						final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
-						}
-						finally {
-							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
-							observer.jdbcExecuteBatchEnd();
-						}
-						checkRowCounts( rowCounts, statementDetails );
+						checkRowCounts( statement.executeBatch(), statementDetails, batchPosition );
 					}
 					else {
 						statement.executeBatch();
 					}
 				}
-				catch (SQLException e) {
-					abortBatch( e );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
-					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				else if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+					try {
+						observer.jdbcExecuteBatchStart();
+						rowCounts = statement.executeBatch();
+					}
+					finally {
+						eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+						observer.jdbcExecuteBatchEnd();
+					}
+					checkRowCounts( rowCounts, statementDetails, batchPosition );
 				}
-				catch (RuntimeException re) {
-					abortBatch( re );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
-					throw re;
+				else {
+					statement.executeBatch();
 				}
-			} );
-		}
-		finally {
-			batchPosition = 0;
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		} );
+		if ( adaptiveBatchSizing != null ) {
+			adaptiveBatchSizing.batchExecuted(
+					key,
+					maxBatchSize,
+					batchPosition,
+					adaptiveBatchSizing.nanoTime() - start,
+					batchBytes,
+					jdbcSessionOwner.getJdbcSessionContext().getStatistics()
+			);
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int batchPosition)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
 			if ( numberOfRowCounts != batchPosition ) {
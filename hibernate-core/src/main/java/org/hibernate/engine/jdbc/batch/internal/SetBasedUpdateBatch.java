@@ -0,0 +1,407 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.metamodel.mapping.internal.SqlTypedMappingImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.sql.ast.spi.AbstractSqlAstTranslator.getCastTypeName;
+
+/**
+ * A {@link Batch} of updates of a single table, which only assign parameters
+ * to columns and only compare columns with parameters, executed as a single
+ * set-based statement of form:
+ * <pre>
+ * merge into table as t
+ * using (values (?,?,?),(?,?,?),...) as s(c0,c1,c2)
+ * on (t.id=s.c1 and t.version=s.c2)
+ * when matched then update set name=s.c0
+ * </pre>
+ * or, if the dialect does not support such a {@code merge}, of form:
+ * <pre>
+ * update table as t set name=s.c0
+ * from (values (cast(? as varchar),cast(? as integer),cast(? as integer)),...) as s(c0,c1,c2)
+ * where t.id=s.c1 and t.version=s.c2
+ * </pre>
+ * The total number of updated rows is checked against the number of rows in
+ * the batch, so that a failed optimistic lock check is detected. Unlike JDBC
+ * batching, this does not identify the row which failed.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_SET_BASED_UPDATES
+ * @see Dialect#supportsMergeUsingValuesList()
+ * @see Dialect#supportsUpdateFromValuesList()
+ */
+public class SetBasedUpdateBatch implements Batch {
+	private static final Pattern PARAMETER_ORDINAL = Pattern.compile( "\\?\\d+" );
+
+	private final BatchKey key;
+	private final PreparedStatementGroup statementGroup;
+	private final PreparedStatementDetails statementDetails;
+	private final int batchSize;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	// the columns of the parameters, in the order of the single-row update
+	private final String[] columnNames;
+	private final boolean[] restricted;
+	private final ValueBinder<Object>[] valueBinders;
+	// the types of the parameters of an update from a values list,
+	// or null if the batch is executed as a merge
+	private final String[] castTypeNames;
+	// set-based statements by row count
+	private final Map<Integer, String> sqlByRowCount = new HashMap<>();
+
+	private final List<Object[]> rows = new ArrayList<>();
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	@SuppressWarnings("unchecked")
+	SetBasedUpdateBatch(
+			BatchKey key,
+			PreparedStatementGroupSingleTable statementGroup,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.statementDetails = statementGroup.getSingleStatementDetails();
+		this.batchSize = batchSize;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final List<JdbcParameterBinder> parameterBinders = statementGroup.getMutationOperation().getParameterBinders();
+		this.columnNames = new String[parameterBinders.size()];
+		this.restricted = new boolean[parameterBinders.size()];
+		this.valueBinders = new ValueBinder[parameterBinders.size()];
+		for ( int i = 0; i < parameterBinders.size(); i++ ) {
+			final ColumnValueParameter parameter = (ColumnValueParameter) parameterBinders.get( i );
+			columnNames[i] = parameter.getColumnReference().getColumnExpression();
+			restricted[i] = parameter.getUsage() == ParameterUsage.RESTRICT;
+		}
+
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getJdbcServices()
+				.getDialect();
+		if ( dialect.supportsMergeUsingValuesList() ) {
+			this.castTypeNames = null;
+		}
+		else {
+			final TypeConfiguration typeConfiguration = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getSessionFactory()
+					.getTypeConfiguration();
+			this.castTypeNames = new String[parameterBinders.size()];
+			for ( int i = 0; i < parameterBinders.size(); i++ ) {
+				final ColumnValueParameter parameter = (ColumnValueParameter) parameterBinders.get( i );
+				castTypeNames[i] = getCastTypeName(
+						new SqlTypedMappingImpl( null, null, null, null, null, parameter.getJdbcMapping() ),
+						typeConfiguration
+				);
+			}
+		}
+	}
+
+	/**
+	 * Can the statement of the given group be executed as a set-based update?
+	 * That is, is it an update of the form {@code update table set a=?,b=? where id=? and version=?},
+	 * with the standard row count check?
+	 */
+	static boolean isSetBasedUpdate(PreparedStatementGroup statementGroup, Dialect dialect) {
+		if ( !( statementGroup instanceof PreparedStatementGroupSingleTable ) ) {
+			return false;
+		}
+		final PreparableMutationOperation operation =
+				( (PreparedStatementGroupSingleTable) statementGroup ).getMutationOperation();
+		if ( operation.getMutationType() != MutationType.UPDATE
+				|| operation.isCallable()
+				|| operation.getExpectation() != Expectations.BASIC ) {
+			return false;
+		}
+
+		// the statement must be exactly what we would render for a single row,
+		// without any custom write expressions, is-null checks, or where fragments
+		final StringBuilder expectedSql = new StringBuilder( "update " )
+				.append( operation.getTableDetails().getTableName() );
+		final StringBuilder restriction = new StringBuilder();
+		boolean hasSet = false;
+		for ( JdbcParameterBinder parameterBinder : operation.getParameterBinders() ) {
+			if ( !( parameterBinder instanceof ColumnValueParameter ) ) {
+				return false;
+			}
+			final ColumnValueParameter parameter = (ColumnValueParameter) parameterBinder;
+			final String columnName = parameter.getColumnReference().getColumnExpression();
+			if ( parameter.getUsage() == ParameterUsage.SET ) {
+				if ( restriction.length() > 0 ) {
+					return false;
+				}
+				expectedSql.append( hasSet ? "," : " set " ).append( columnName ).append( "=?" );
+				hasSet = true;
+			}
+			else {
+				restriction.append( restriction.length() == 0 ? " where " : " and " )
+						.append( columnName ).append( "=?" );
+			}
+		}
+		if ( !hasSet || restriction.length() == 0 ) {
+			return false;
+		}
+		expectedSql.append( restriction );
+		return expectedSql.toString().equals( normalize( operation.getSqlString() ) );
+	}
+
+	/**
+	 * Strip any leading comment, and the ordinals of ordinal parameter markers
+	 */
+	private static String normalize(String sql) {
+		if ( sql.startsWith( "/*" ) ) {
+			final int end = sql.indexOf( "*/" );
+			if ( end > 0 ) {
+				sql = sql.substring( end + 2 ).trim();
+			}
+		}
+		return PARAMETER_ORDINAL.matcher( sql ).replaceAll( "?" );
+	}
+
+	@Override
+	public BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Adding to set-based update (%s) - `%s`",
+					rows.size() + 1,
+					key.toLoggableString()
+			);
+		}
+
+		if ( inclusionChecker == null || inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+			final Object[] row = new Object[columnNames.length];
+			final BindingGroup bindingGroup =
+					jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() );
+			if ( bindingGroup != null ) {
+				for ( Binding binding : bindingGroup.getBindings() ) {
+					final int index = binding.getPosition() - 1;
+					row[index] = binding.getValue();
+					if ( valueBinders[index] == null ) {
+						valueBinders[index] = binding.getValueBinder();
+					}
+				}
+			}
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+			rows.add( row );
+		}
+
+		if ( rows.size() >= batchSize ) {
+			for ( BatchObserver observer : observers ) {
+				observer.batchImplicitlyExecuted();
+			}
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+		if ( rows.isEmpty() ) {
+			BATCH_LOGGER.debugf( "No batched statements to execute - %s", key.toLoggableString() );
+			return;
+		}
+		performExecution();
+	}
+
+	private void performExecution() {
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		final int parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+		final int maxRowCount = parameterCountLimit > 0
+				? Math.max( 1, parameterCountLimit / columnNames.length )
+				: rows.size();
+		try {
+			for ( int position = 0; position < rows.size(); position += maxRowCount ) {
+				executeRows( position, Math.min( maxRowCount, rows.size() - position ), jdbcServices );
+			}
+		}
+		catch (RuntimeException e) {
+			try {
+				jdbcCoordinator.abortBatch();
+			}
+			catch (RuntimeException suppressed) {
+				e.addSuppressed( suppressed );
+			}
+			throw e;
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	private void executeRows(int position, int rowCount, JdbcServices jdbcServices) {
+		final String sql = sqlByRowCount.computeIfAbsent(
+				rowCount,
+				count -> castTypeNames == null ? renderMerge( count ) : renderUpdateFrom( count )
+		);
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+		// the owner is the session, which is needed for binding the values
+		final SharedSessionContractImplementor session =
+				(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			int parameterPosition = 1;
+			for ( int i = position; i < position + rowCount; i++ ) {
+				final Object[] row = rows.get( i );
+				for ( int j = 0; j < row.length; j++ ) {
+					valueBinders[j].bind( statement, row[j], parameterPosition++, session );
+				}
+			}
+			final int updatedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( updatedRowCount < rowCount ) {
+				throw new StaleStateException(
+						"Set-based update returned unexpected row count; actual row count: " + updatedRowCount
+								+ "; expected: " + rowCount + "; statement executed: " + sql
+				);
+			}
+			else if ( updatedRowCount > rowCount ) {
+				throw new TooManyRowsAffectedException(
+						"Set-based update returned unexpected row count; actual row count: " + updatedRowCount
+								+ "; expected: " + rowCount,
+						rowCount,
+						updatedRowCount
+				);
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "could not execute set-based update", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private String renderMerge(int rowCount) {
+		final StringBuilder sql = new StringBuilder( "merge into " )
+				.append( statementDetails.getMutatingTableDetails().getTableName() )
+				.append( " as t using (values " );
+		for ( int i = 0; i < rowCount; i++ ) {
+			sql.append( i == 0 ? "(" : ",(" );
+			for ( int j = 0; j < columnNames.length; j++ ) {
+				sql.append( j == 0 ? "?" : ",?" );
+			}
+			sql.append( ')' );
+		}
+		sql.append( ") as s(" );
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			sql.append( j == 0 ? "c" : ",c" ).append( j );
+		}
+		sql.append( ") on (" );
+		boolean first = true;
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			if ( restricted[j] ) {
+				sql.append( first ? "t." : " and t." ).append( columnNames[j] ).append( "=s.c" ).append( j );
+				first = false;
+			}
+		}
+		sql.append( ") when matched then update set " );
+		first = true;
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			if ( !restricted[j] ) {
+				sql.append( first ? "" : "," ).append( columnNames[j] ).append( "=s.c" ).append( j );
+				first = false;
+			}
+		}
+		return sql.toString();
+	}
+
+	private String renderUpdateFrom(int rowCount) {
+		final StringBuilder sql = new StringBuilder( "update " )
+				.append( statementDetails.getMutatingTableDetails().getTableName() )
+				.append( " as t set " );
+		boolean first = true;
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			if ( !restricted[j] ) {
+				sql.append( first ? "" : "," ).append( columnNames[j] ).append( "=s.c" ).append( j );
+				first = false;
+			}
+		}
+		// the parameters are cast, since the types of
+		// the columns of a values list are not inferred
+		sql.append( " from (values " );
+		for ( int i = 0; i < rowCount; i++ ) {
+			sql.append( i == 0 ? "(" : ",(" );
+			for ( int j = 0; j < columnNames.length; j++ ) {
+				sql.append( j == 0 ? "cast(? as " : ",cast(? as " ).append( castTypeNames[j] ).append( ')' );
+			}
+			sql.append( ')' );
+		}
+		sql.append( ") as s(" );
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			sql.append( j == 0 ? "c" : ",c" ).append( j );
+		}
+		sql.append( ") where " );
+		first = true;
+		for ( int j = 0; j < columnNames.length; j++ ) {
+			if ( restricted[j] ) {
+				sql.append( first ? "t." : " and t." ).append( columnNames[j] ).append( "=s.c" ).append( j );
+				first = false;
+			}
+		}
+		return sql.toString();
+	}
+
+	@Override
+	public void release() {
+		if ( !rows.isEmpty() ) {
+			BATCH_LOGGER.debugf( "Set-based update contained rows on release - %s", key.toLoggableString() );
+			rows.clear();
+		}
+		statementGroup.release();
+	}
+}
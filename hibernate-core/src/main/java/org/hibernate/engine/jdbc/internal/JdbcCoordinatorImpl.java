@@ -19,6 +19,7 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchImpl;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -203,6 +204,20 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", currentBatch.getKey() );
 			currentBatch.execute();
 		}
+		else {
+			awaitBatchExecution();
+		}
+	}
+
+	/**
+	 * Wait until the current batch is no longer being executed by another thread,
+	 * if {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING pipelining}
+	 * is enabled, so that statements are executed in their original order.
+	 */
+	void awaitBatchExecution() {
+		if ( currentBatch instanceof BatchImpl ) {
+			( (BatchImpl) currentBatch ).awaitPendingExecution();
+		}
 	}
 
 	@Override
@@ -298,6 +313,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -92,6 +92,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}
 
 		public PreparedStatement prepareStatement() {
+			jdbcCoordinator.awaitBatchExecution();
 			try {
 				final PreparedStatement preparedStatement;
 				//noinspection deprecation
@@ -64,6 +64,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	
 	@Override
 	public Statement createStatement() {
+		jdbcCoordinator.awaitBatchExecution();
 		try {
 			final Statement statement = connection().createStatement();
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( statement, true );
@@ -170,6 +171,7 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 
 		public PreparedStatement prepareStatement() {
+			jdbcCoordinator.awaitBatchExecution();
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
@@ -43,6 +43,10 @@ public class PreparedStatementGroupSingleTable implements PreparedStatementGroup
 		this.session = session;
 	}
 
+	public PreparableMutationOperation getMutationOperation() {
+		return jdbcMutation;
+	}
+
 	protected TableMapping getMutatingTableDetails() {
 		return jdbcMutation.getTableDetails();
 	}
@@ -10,8 +10,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -30,6 +30,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -41,7 +42,9 @@ import org.hibernate.action.internal.UnresolvedEntityInsertActions;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.CacheException;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -218,7 +221,9 @@ public class ActionQueue {
 			@Override
 			public void ensureInitialized(ActionQueue instance) {
 				if ( instance.deletions == null ) {
-					instance.deletions = new ExecutableList<>( false );
+					instance.deletions = instance.isOrderUpdatesEnabled()
+							? new ExecutableList<>( DeleteActionSorter.INSTANCE )
+							: new ExecutableList<>( false );
 				}
 			}
 		};
@@ -808,6 +813,9 @@ public class ActionQueue {
 		if ( isOrderInsertsEnabled() && insertions != null ) {
 			insertions.sort();
 		}
+		if ( isOrderUpdatesEnabled() && deletions != null ) {
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -1078,312 +1086,337 @@ public class ActionQueue {
 	}
 
 	/**
-	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
+	 * Order a queue of entity actions such that we group actions against the same entity together (without
 	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
-	 * and groups all inserts by the entity name.
-	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
-	 * </p>
-	 * The implementation will only produce an optimal insert order for the insert groups that can be perfectly scheduled serially.
-	 * Scheduling serially means, that there is an order which doesn't violate the FK constraint dependencies.
-	 * The inserts of insert groups which can't be scheduled, are going to be inserted in the original order.
+	 * The algorithm first discovers the direct dependencies between the entity instances of the actions,
+	 * and groups the actions by entity name. It then performs a topological sort of the dependency graph
+	 * (Kahn's algorithm), where each step schedules <em>all</em> the actions of a single entity name which
+	 * are ready to be executed, including those which become ready during the step, for example, because
+	 * of a self-referencing association. An entity name whose remaining actions are all ready is scheduled
+	 * in preference to one which would have to be split across several batches.
+	 * <p>
+	 * The cost is linear in the number of actions and dependencies, plus the number of entity names for each
+	 * scheduled group. If the dependencies contain a cycle, the actions which can't be scheduled are executed
+	 * in their original order, after all the others.
 	 */
-	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+	private abstract static class EntityActionSorter<T extends EntityAction> implements ExecutableList.Sorter<T> {
+
 		/**
-		 * Singleton access
+		 * The state of the entity, which refers to the entities it depends on.
 		 */
-		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
+		abstract Object[] getState(T action);
 
-		private static class InsertInfo {
-			private final AbstractEntityInsertAction insertAction;
-			// Inserts in this set must be executed before this insert
-			private Set<InsertInfo> transitiveIncomingDependencies;
-			// Child dependencies of i.e. one-to-many or inverse one-to-one
-			// It's necessary to have this for unidirectional associations, to propagate incoming dependencies
-			private Set<InsertInfo> outgoingDependencies;
-			// The current index of the insert info within an insert schedule
-			private int index;
-
-			public InsertInfo(AbstractEntityInsertAction insertAction, int index) {
-				this.insertAction = insertAction;
+		/**
+		 * Whether the dependencies must be executed after the dependent action, instead of before.
+		 */
+		abstract boolean isReversed();
+
+		private static class Node {
+			private final EntityAction action;
+			private final int index;
+			private final Group group;
+			// The nodes which can only be scheduled after this node
+			private Node[] successors;
+			private int successorCount;
+			// The number of nodes which must be scheduled before this node
+			private int predecessorCount;
+
+			private Node(EntityAction action, int index, Group group) {
+				this.action = action;
 				this.index = index;
+				this.group = group;
 			}
 
-			public void buildDirectDependencies(IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
-				final Object[] propertyValues = insertAction.getState();
-				final Type[] propertyTypes = insertAction.getPersister().getPropertyTypes();
-				for ( int i = 0, propertyTypesLength = propertyTypes.length; i < propertyTypesLength; i++ ) {
-					addDirectDependency( propertyTypes[i], propertyValues[i], insertInfosByEntity );
+			private void addSuccessor(Node successor) {
+				if ( successors == null ) {
+					successors = new Node[4];
+				}
+				else if ( successorCount == successors.length ) {
+					successors = Arrays.copyOf( successors, successorCount * 2 );
 				}
+				successors[successorCount++] = successor;
+				successor.predecessorCount++;
+			}
+
+			@Override
+			public String toString() {
+				return "Node{" +
+					"action=" + action +
+					'}';
+			}
+		}
+
+		private static class Group {
+			private final String entityName;
+			// The nodes of this group which have no unscheduled predecessors
+			private final ArrayDeque<Node> ready = new ArrayDeque<>();
+			// The number of nodes of this group which are not scheduled yet
+			private int remaining;
+
+			private Group(String entityName) {
+				this.entityName = entityName;
+			}
+
+			private boolean isComplete() {
+				return ready.size() == remaining;
+			}
+
+			@Override
+			public String toString() {
+				return "Group{" +
+					"entityName='" + entityName + '\'' +
+					'}';
 			}
+		}
 
-			public void propagateChildDependencies() {
-				if ( outgoingDependencies != null ) {
-					for ( InsertInfo childDependency : outgoingDependencies ) {
-						if (childDependency.transitiveIncomingDependencies == null) {
-							childDependency.transitiveIncomingDependencies = new HashSet<>();
+		/**
+		 * Sort the actions.
+		 */
+		@Override
+		public void sort(List<T> actions) {
+			final int actionCount = actions.size();
+			if ( actionCount < 2 ) {
+				return;
+			}
+			final Node[] nodes = new Node[actionCount];
+			// A map of all nodes keyed by the entity instance
+			// This is needed to discover the nodes of direct dependencies
+			final IdentityHashMap<Object, Node> nodesByEntity = new IdentityHashMap<>( actionCount );
+			// Groups in the order of their first action
+			final Map<String, Group> groupsByEntityName = new LinkedHashMap<>();
+			for ( int i = 0; i < actionCount; i++ ) {
+				final T action = actions.get( i );
+				final Group group = groupsByEntityName.computeIfAbsent( action.getEntityName(), Group::new );
+				group.remaining++;
+				nodes[i] = new Node( action, i, group );
+				nodesByEntity.put( action.getInstance(), nodes[i] );
+			}
+			if ( groupsByEntityName.size() == 1 ) {
+				// nothing to group, and the original order respects the dependencies
+				return;
+			}
+			for ( int i = 0; i < actionCount; i++ ) {
+				final Node node = nodes[i];
+				final Object[] state = getState( actions.get( i ) );
+				if ( state != null ) {
+					final Type[] propertyTypes = node.action.getPersister().getPropertyTypes();
+					for ( int j = 0; j < propertyTypes.length; j++ ) {
+						if ( !addDependencies( node, propertyTypes[j], state[j], nodesByEntity ) ) {
+							// we can't tell which of the other actions this one depends on
+							return;
 						}
-						childDependency.transitiveIncomingDependencies.add( this );
 					}
 				}
 			}
 
-			public void buildTransitiveDependencies(Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					visited.addAll( transitiveIncomingDependencies );
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies.toArray(new InsertInfo[0]) ) {
-						insertInfo.addTransitiveDependencies(this, visited);
+			final Group[] groups = groupsByEntityName.values().toArray( new Group[0] );
+			for ( Node node : nodes ) {
+				if ( node.predecessorCount == 0 ) {
+					node.group.ready.add( node );
+				}
+			}
+			actions.clear();
+			Group group;
+			while ( ( group = nextGroup( groups ) ) != null ) {
+				Node node;
+				while ( ( node = group.ready.poll() ) != null ) {
+					group.remaining--;
+					//noinspection unchecked
+					actions.add( (T) node.action );
+					for ( int i = 0; i < node.successorCount; i++ ) {
+						final Node successor = node.successors[i];
+						if ( --successor.predecessorCount == 0 ) {
+							successor.group.ready.add( successor );
+						}
+					}
+				}
+			}
+			if ( actions.size() < actionCount ) {
+				LOG.warn( "The batch containing " + actionCount + " statements could not be sorted. " +
+					"This might indicate a circular entity relationship." );
+				for ( Node node : nodes ) {
+					if ( node.predecessorCount > 0 ) {
+						//noinspection unchecked
+						actions.add( (T) node.action );
 					}
-					visited.clear();
 				}
 			}
+		}
 
-			public void addTransitiveDependencies(InsertInfo origin, Set<InsertInfo> visited) {
-				if ( transitiveIncomingDependencies != null ) {
-					for ( InsertInfo insertInfo : transitiveIncomingDependencies ) {
-						if ( visited.add(insertInfo) ) {
-							origin.transitiveIncomingDependencies.add( insertInfo );
-							insertInfo.addTransitiveDependencies( origin, visited );
-						}
+		/**
+		 * @return the first group whose remaining nodes are all ready, or otherwise the first group
+		 *         with any ready node, or {@code null} if no node is ready
+		 */
+		private static @Nullable Group nextGroup(Group[] groups) {
+			Group first = null;
+			for ( Group group : groups ) {
+				if ( !group.ready.isEmpty() ) {
+					if ( group.isComplete() ) {
+						return group;
+					}
+					else if ( first == null ) {
+						first = group;
 					}
 				}
 			}
+			return first;
+		}
 
-			private void addDirectDependency(Type type, @Nullable Object value, IdentityHashMap<Object, InsertInfo> insertInfosByEntity) {
-				if ( type.isEntityType() && value != null ) {
-					final EntityType entityType = (EntityType) type;
-					final InsertInfo insertInfo = insertInfosByEntity.get( value );
-					if ( insertInfo != null ) {
-						if ( entityType.isOneToOne()
-								&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
-							if ( !entityType.isReferenceToPrimaryKey() ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add(insertInfo);
-							}
-						}
-						else {
-							if ( transitiveIncomingDependencies == null ) {
-								transitiveIncomingDependencies = new HashSet<>();
-							}
-							transitiveIncomingDependencies.add( insertInfo );
+		/**
+		 * Add an edge for every entity of another action referenced by the given value.
+		 *
+		 * @return {@code false} if the value can't be inspected without hitting the database
+		 */
+		private boolean addDependencies(Node node, Type type, @Nullable Object value, IdentityHashMap<Object, Node> nodesByEntity) {
+			if ( value == null ) {
+				return true;
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return !type.isAssociationType();
+			}
+			else if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				final Node target = getNode( value, nodesByEntity, node.action.getSession() );
+				if ( target != null && target != node ) {
+					if ( entityType.isOneToOne()
+							&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+						// The associated entity holds the foreign key
+						if ( !entityType.isReferenceToPrimaryKey() ) {
+							addEdge( node, target );
 						}
 					}
+					else {
+						addEdge( target, node );
+					}
 				}
-				else if ( type.isCollectionType() && value != null ) {
-					CollectionType collectionType = (CollectionType) type;
-					final PluralAttributeMapping pluralAttributeMapping = insertAction.getSession()
-							.getFactory()
-							.getMappingMetamodel()
-							.getCollectionDescriptor( collectionType.getRole() )
-							.getAttributeMapping();
-					// We only care about mappedBy one-to-many associations, because for these,
-					// the elements depend on the collection owner
-					if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
-							&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
-						final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
-						while ( elementsIterator.hasNext() ) {
-							final Object element = elementsIterator.next();
-							final InsertInfo insertInfo = insertInfosByEntity.get( element );
-							if ( insertInfo != null ) {
-								if ( outgoingDependencies == null ) {
-									outgoingDependencies = new HashSet<>();
-								}
-								outgoingDependencies.add( insertInfo );
-							}
+				return true;
+			}
+			else if ( type.isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) type;
+				final SharedSessionContractImplementor session = node.action.getSession();
+				final PluralAttributeMapping pluralAttributeMapping = session.getFactory()
+						.getMappingMetamodel()
+						.getCollectionDescriptor( collectionType.getRole() )
+						.getAttributeMapping();
+				// We only care about one-to-many associations, because for these,
+				// the elements depend on the collection owner
+				if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+						&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+					if ( value instanceof PersistentCollection
+							&& !( (PersistentCollection<?>) value ).wasInitialized() ) {
+						return false;
+					}
+					final Iterator<?> elementsIterator = collectionType.getElementsIterator( value );
+					while ( elementsIterator.hasNext() ) {
+						final Node target = getNode( elementsIterator.next(), nodesByEntity, session );
+						if ( target != null && target != node ) {
+							addEdge( node, target );
 						}
 					}
 				}
-				else if ( type.isComponentType() && value != null ) {
-					// Support recursive checks of composite type properties for associations and collections.
-					final CompositeType compositeType = (CompositeType) type;
-					final SharedSessionContractImplementor session = insertAction.getSession();
-					final Object[] componentValues = compositeType.getPropertyValues( value, session );
-					for ( int j = 0; j < componentValues.length; ++j ) {
-						final Type componentValueType = compositeType.getSubtypes()[j];
-						final Object componentValue = componentValues[j];
-						addDirectDependency( componentValueType, componentValue, insertInfosByEntity );
+				return true;
+			}
+			else if ( type.isComponentType() ) {
+				// Support recursive checks of composite type properties for associations and collections.
+				final CompositeType compositeType = (CompositeType) type;
+				final SharedSessionContractImplementor session = node.action.getSession();
+				final Object[] componentValues = compositeType.getPropertyValues( value, session );
+				final Type[] subtypes = compositeType.getSubtypes();
+				for ( int j = 0; j < componentValues.length; ++j ) {
+					if ( !addDependencies( node, subtypes[j], componentValues[j], nodesByEntity ) ) {
+						return false;
 					}
 				}
+				return true;
 			}
-
-			@Override
-			public boolean equals(@Nullable Object o) {
-				if ( this == o )  {
-					return true;
-				}
-				if ( o == null || getClass() != o.getClass() ) {
-					return false;
-				}
-
-				final InsertInfo that = (InsertInfo) o;
-				return insertAction.equals( that.insertAction );
+			else {
+				return true;
 			}
+		}
 
-			@Override
-			public int hashCode() {
-				return insertAction.hashCode();
+		/**
+		 * Record that the action of the dependent node must be executed after
+		 * the action of the given node, or before, if {@linkplain #isReversed reversed}.
+		 */
+		private void addEdge(Node node, Node dependent) {
+			if ( isReversed() ) {
+				dependent.addSuccessor( node );
 			}
-
-			@Override
-			public String toString() {
-				return "InsertInfo{" +
-					"insertAction=" + insertAction +
-					'}';
+			else {
+				node.addSuccessor( dependent );
 			}
 		}
 
-		public InsertActionSorter() {
+		private static @Nullable Node getNode(
+				@Nullable Object entity,
+				IdentityHashMap<Object, Node> nodesByEntity,
+				SharedSessionContractImplementor session) {
+			if ( entity == null ) {
+				return null;
+			}
+			final Node node = nodesByEntity.get( entity );
+			if ( node != null ) {
+				return node;
+			}
+			final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
+			if ( lazyInitializer == null ) {
+				return null;
+			}
+			else if ( !lazyInitializer.isUninitialized() ) {
+				return nodesByEntity.get( lazyInitializer.getImplementation() );
+			}
+			else {
+				// the entity may be managed even though the proxy was never initialized
+				final EntityPersister persister = session.getFactory().getMappingMetamodel()
+						.getEntityDescriptor( lazyInitializer.getEntityName() );
+				final Object managed = session.getPersistenceContextInternal()
+						.getEntity( session.generateEntityKey( lazyInitializer.getInternalIdentifier(), persister ) );
+				return managed == null ? null : nodesByEntity.get( managed );
+			}
 		}
+	}
 
+	/**
+	 * Order the {@link #insertions} queue, so that every entity is inserted after the entities it refers to.
+	 */
+	private static class InsertActionSorter extends EntityActionSorter<AbstractEntityInsertAction> {
 		/**
-		 * Sort the insert actions.
+		 * Singleton access
 		 */
-		public void sort(List<AbstractEntityInsertAction> insertions) {
-			final int insertInfoCount = insertions.size();
-			// Build up dependency metadata for insert actions
-			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
-			// A map of all insert infos keyed by the entity instance
-			// This is needed to discover insert infos for direct dependencies
-			final IdentityHashMap<Object, InsertInfo> insertInfosByEntity = new IdentityHashMap<>( insertInfos.length );
-			// Construct insert infos and build a map for that, keyed by entity instance
-			for (int i = 0; i < insertInfoCount; i++) {
-				final AbstractEntityInsertAction insertAction = insertions.get(i);
-				final InsertInfo insertInfo = new InsertInfo(insertAction, i);
-				insertInfosByEntity.put(insertAction.getInstance(), insertInfo);
-				insertInfos[i] = insertInfo;
-			}
-			// First we must discover the direct dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].buildDirectDependencies(insertInfosByEntity);
-			}
-			// Then we can propagate child dependencies to the insert infos incoming dependencies
-			for (int i = 0; i < insertInfoCount; i++) {
-				insertInfos[i].propagateChildDependencies();
-			}
-			// Finally, we add all the transitive incoming dependencies
-			// and then group insert infos into EntityInsertGroup keyed by entity name
-			final Set<InsertInfo> visited = new HashSet<>();
-			final Map<String, EntityInsertGroup> insertInfosByEntityName = new LinkedHashMap<>();
-			for (int i = 0; i < insertInfoCount; i++) {
-				final InsertInfo insertInfo = insertInfos[i];
-				insertInfo.buildTransitiveDependencies( visited );
-
-				final String entityName = insertInfo.insertAction.getPersister().getEntityName();
-				EntityInsertGroup entityInsertGroup = insertInfosByEntityName.get(entityName);
-				if (entityInsertGroup == null) {
-					insertInfosByEntityName.put(entityName, entityInsertGroup = new EntityInsertGroup(entityName));
-				}
-				entityInsertGroup.add(insertInfo);
-			}
-			// Now we can go through the EntityInsertGroups and schedule all the ones
-			// for which we have already scheduled all the dependentEntityNames
-			final Set<String> scheduledEntityNames = new HashSet<>(insertInfosByEntityName.size());
-			int schedulePosition = 0;
-			int lastScheduleSize;
-			do {
-				lastScheduleSize = scheduledEntityNames.size();
-				final Iterator<EntityInsertGroup> iterator = insertInfosByEntityName.values().iterator();
-				while (iterator.hasNext()) {
-					final EntityInsertGroup insertGroup = iterator.next();
-					if (scheduledEntityNames.containsAll(insertGroup.dependentEntityNames)) {
-						schedulePosition = schedule(insertInfos, insertGroup.insertInfos, schedulePosition);
-						scheduledEntityNames.add(insertGroup.entityName);
-						iterator.remove();
-					}
-				}
-				// we try to schedule entity groups over and over again, until we can't schedule any further
-			} while (lastScheduleSize != scheduledEntityNames.size());
-			if ( !insertInfosByEntityName.isEmpty() ) {
-				LOG.warn("The batch containing " + insertions.size() + " statements could not be sorted. " +
-					"This might indicate a circular entity relationship.");
-			}
-			insertions.clear();
-			for (InsertInfo insertInfo : insertInfos) {
-				insertions.add(insertInfo.insertAction);
-			}
-		}
-
-		private int schedule(InsertInfo [] insertInfos, List<InsertInfo> insertInfosToSchedule, int schedulePosition) {
-			final InsertInfo[] newInsertInfos = new InsertInfo[insertInfos.length];
-			// The bitset is there to quickly query if an index is already scheduled
-			final BitSet bitSet = new BitSet(insertInfos.length);
-			// Remember the smallest index of the insertInfosToSchedule to check if we actually need to reorder anything
-			int smallestScheduledIndex = -1;
-			// The biggestScheduledIndex is needed as upper bound for shifting elements that were replaced by insertInfosToSchedule
-			int biggestScheduledIndex = -1;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final int index = insertInfosToSchedule.get(i).index;
-				bitSet.set(index);
-				smallestScheduledIndex = Math.min(smallestScheduledIndex, index);
-				biggestScheduledIndex = Math.max(biggestScheduledIndex, index);
-			}
-			final int nextSchedulePosition = schedulePosition + insertInfosToSchedule.size();
-			if (smallestScheduledIndex == schedulePosition && biggestScheduledIndex == nextSchedulePosition) {
-				// In this case, the order is already correct and we can skip some copying
-				return nextSchedulePosition;
-			}
-			// The index to which we start to shift elements that appear within the range of [schedulePosition, nextSchedulePosition)
-			int shiftSchedulePosition = nextSchedulePosition;
-			for (int i = 0; i < insertInfosToSchedule.size(); i++) {
-				final InsertInfo insertInfoToSchedule = insertInfosToSchedule.get(i);
-				final int targetSchedulePosition = schedulePosition + i;
-				newInsertInfos[targetSchedulePosition] = insertInfoToSchedule;
-				insertInfoToSchedule.index = targetSchedulePosition;
-				final InsertInfo oldInsertInfo = insertInfos[targetSchedulePosition];
-				// Move the insert info previously located at the target schedule position to the current shift position
-				if (!bitSet.get(targetSchedulePosition)) {
-					oldInsertInfo.index = shiftSchedulePosition;
-					// Also set this index in the bitset to skip copying the value later, as it is considered scheduled
-					bitSet.set(targetSchedulePosition);
-					newInsertInfos[shiftSchedulePosition++]= oldInsertInfo;
-				}
-			}
-			// We have to shift all the elements up to the biggestMovedIndex + 1
-			biggestScheduledIndex++;
-			for (int i = bitSet.nextClearBit(schedulePosition); i < biggestScheduledIndex; i++) {
-				// Only copy the old insert info over if it wasn't already scheduled
-				if (!bitSet.get(i)) {
-					final InsertInfo insertInfo = insertInfos[i];
-					insertInfo.index = shiftSchedulePosition;
-					newInsertInfos[shiftSchedulePosition++] = insertInfo;
-				}
-			}
-			// Copy over the newly reordered array part into the main array
-			System.arraycopy(newInsertInfos, schedulePosition, insertInfos, schedulePosition, biggestScheduledIndex - schedulePosition);
-			return nextSchedulePosition;
-		}
+		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
-		public static class EntityInsertGroup {
-			private final String entityName;
-			private final List<InsertInfo> insertInfos = new ArrayList<>();
-			private final Set<String> dependentEntityNames = new HashSet<>();
+		@Override
+		Object[] getState(AbstractEntityInsertAction action) {
+			return action.getState();
+		}
 
-			public EntityInsertGroup(String entityName) {
-				this.entityName = entityName;
-			}
+		@Override
+		boolean isReversed() {
+			return false;
+		}
+	}
 
-			public void add(InsertInfo insertInfo) {
-				insertInfos.add(insertInfo);
-				if (insertInfo.transitiveIncomingDependencies != null) {
-					for (InsertInfo dependency : insertInfo.transitiveIncomingDependencies) {
-						dependentEntityNames.add(dependency.insertAction.getEntityName());
-					}
-				}
-			}
+	/**
+	 * Order the {@link #deletions} queue, so that every entity is deleted before the entities it refers to.
+	 */
+	private static class DeleteActionSorter extends EntityActionSorter<EntityDeleteAction> {
+		/**
+		 * Singleton access
+		 */
+		public static final DeleteActionSorter INSTANCE = new DeleteActionSorter();
 
-			@Override
-			public String toString() {
-				return "EntityInsertGroup{" +
-					"entityName='" + entityName + '\'' +
-					'}';
-			}
+		@Override
+		Object[] getState(EntityDeleteAction action) {
+			return action.getState();
 		}
 
+		@Override
+		boolean isReversed() {
+			return true;
+		}
 	}
 
 }
@@ -6,10 +6,16 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -214,6 +220,8 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final @Nullable CachedKeys cachedKeys =
+				cachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -229,7 +237,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !isCached( cachedKeys, key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -272,6 +280,8 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final @Nullable CachedKeys cachedKeys =
+					cachedEntityKeys( set, entityDescriptor.getEntityPersister(), maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +293,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( !isCached( cachedKeys, key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +311,31 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private @Nullable CachedKeys cachedEntityKeys(
+			Collection<EntityKey> entityKeys,
+			EntityPersister persister,
+			int chunkSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new CachedKeys(
+					entityKeys.iterator(),
+					chunkSize,
+					keys -> {
+						final Object[] cacheKeys = new Object[keys.length];
+						for ( int i = 0; i < keys.length; i++ ) {
+							cacheKeys[i] = cache.generateCacheKey(
+									( (EntityKey) keys[i] ).getIdentifier(),
+									persister,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							);
+						}
+						return CacheHelper.fromSharedCache( session, cacheKeys, persister, cache );
+					}
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -381,6 +403,8 @@ public class BatchFetchQueue {
 		if ( map == null ) {
 			return;
 		}
+		final @Nullable CachedKeys cachedKeys =
+				cachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
 
 		int i = 1;
 		int end = -1;
@@ -425,7 +449,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( !isCached( cachedKeys, loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +493,7 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final @Nullable CachedKeys cachedKeys = cachedCollectionKeys( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +528,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( !isCached( cachedKeys, loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,19 +544,85 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private @Nullable CachedKeys cachedCollectionKeys(
+			Map<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int chunkSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new CachedKeys(
+					collections.keySet().stream().map( CollectionEntry::getLoadedKey ).iterator(),
+					chunkSize,
+					keys -> {
+						final Object[] cacheKeys = new Object[keys.length];
+						for ( int i = 0; i < keys.length; i++ ) {
+							cacheKeys[i] = cache.generateCacheKey(
+									keys[i],
+									persister,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							);
+						}
+						return CacheHelper.fromSharedCache( session, cacheKeys, persister, cache );
+					}
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	private static boolean isCached(@Nullable CachedKeys cachedKeys, Object key) {
+		return cachedKeys != null && cachedKeys.contains( key );
+	}
+
+	/**
+	 * Tracks which of the keys available for batch fetching are in the
+	 * second-level cache. Since the keys are visited in order, the cache
+	 * entries are read a chunk of upcoming keys at a time, with a single
+	 * cache operation, instead of one key at a time.
+	 */
+	private static final class CachedKeys {
+		private final Iterator<? extends @Nullable Object> upcomingKeys;
+		private final int chunkSize;
+		private final Function<Object[], Object[]> lookup;
+		// keyed by identity, since the keys come from the queue itself
+		private final Map<Object, Boolean> cachedByKey = new IdentityHashMap<>();
+
+		private CachedKeys(
+				Iterator<? extends @Nullable Object> upcomingKeys,
+				int chunkSize,
+				Function<Object[], Object[]> lookup) {
+			this.upcomingKeys = upcomingKeys;
+			this.chunkSize = Math.max( 1, chunkSize );
+			this.lookup = lookup;
+		}
+
+		private boolean contains(Object key) {
+			if ( !cachedByKey.containsKey( key ) ) {
+				lookupChunk( key );
+			}
+			return cachedByKey.get( key ) == Boolean.TRUE;
+		}
+
+		private void lookupChunk(Object key) {
+			final List<Object> keys = new ArrayList<>( chunkSize );
+			boolean found = false;
+			while ( upcomingKeys.hasNext() && ( !found || keys.size() < chunkSize ) ) {
+				final Object next = upcomingKeys.next();
+				if ( next != null && !cachedByKey.containsKey( next ) ) {
+					keys.add( next );
+					found = found || next == key;
+				}
+			}
+			if ( !found ) {
+				keys.add( key );
+			}
+			final Object[] chunk = keys.toArray();
+			final Object[] cachedValues = lookup.apply( chunk );
+			for ( int i = 0; i < chunk.length; i++ ) {
+				cachedByKey.put( chunk[i], cachedValues[i] != null );
+			}
+		}
 	}
 
 	public SharedSessionContractImplementor getSession() {
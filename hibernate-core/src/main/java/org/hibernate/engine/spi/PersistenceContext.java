@@ -7,8 +7,10 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -550,6 +552,25 @@ public interface PersistenceContext {
 
 	int getNumberOfManagedEntities();
 
+	/**
+	 * The persisters of the entities associated with the persistence context
+	 * since it was last cleared. Persisters of entities which have since been
+	 * evicted or deleted might still be included.
+	 *
+	 * @implNote The default implementation collects the persisters of the
+	 * current {@linkplain #reentrantSafeEntityEntries() entity entries}.
+	 *
+	 * @since 6.5
+	 */
+	@Internal
+	default Set<EntityPersister> getManagedEntityPersisters() {
+		final Set<EntityPersister> persisters = new HashSet<>();
+		for ( Map.Entry<Object, EntityEntry> entry : reentrantSafeEntityEntries() ) {
+			persisters.add( entry.getValue().getPersister() );
+		}
+		return persisters;
+	}
+
 	/**
 	 * Doubly internal
 	 */
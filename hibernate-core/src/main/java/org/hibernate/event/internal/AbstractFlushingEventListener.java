@@ -8,6 +8,7 @@ package org.hibernate.event.internal;
 
 import java.util.Map;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.action.internal.CollectionRecreateAction;
@@ -32,6 +33,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushStatePool;
 import org.hibernate.event.spi.PersistContext;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
@@ -39,6 +41,8 @@ import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
 /**
  * A convenience base class for listeners whose functionality results in flushing.
  *
@@ -50,6 +54,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 	private boolean jpaBootstrap;
 
+	private final ParallelDirtyChecker parallelDirtyChecker = new ParallelDirtyChecker();
+
 	@Override
 	public void wasJpaBootstrap(boolean wasJpaBootstrap) {
 		this.jpaBootstrap = wasJpaBootstrap;
@@ -209,17 +215,41 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
-		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
+		final FlushStatePool statePool = source.getFlushStatePool();
+
+		//allow reuse of the event as it's heavily allocated in certain use cases
+		FlushEntityEvent entityEvent = statePool == null ? null : statePool.takeFlushEntityEvent();
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final boolean skipUnchanged = hasOnlyDefaultFlushEntityListener( flushListeners );
+
+		// let the listener reuse arrays of property values, but only if
+		// we know that nothing else could keep a reference to them
+		final FlushStatePool valuesPool = skipUnchanged && source.getInterceptor() == EmptyInterceptor.INSTANCE
+				? statePool
+				: null;
+
+		// read and compare the state of the entities in parallel, if enabled,
+		// but only if we know exactly what the listener will do with it
+		final int parallelThreshold = source.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		final ParallelDirtyChecker.Result[] precomputed = skipUnchanged && parallelThreshold > 0 && count >= parallelThreshold
+				? parallelDirtyChecker.check( entityEntries, source )
+				: null;
+
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE
+					&& !( skipUnchanged && isUnequivocallyUnchanged( me.getKey(), entry ) ) ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
+				entityEvent.setStatePool( valuesPool );
+				if ( precomputed != null && precomputed[i] != null ) {
+					precomputed[i].applyTo( entityEvent );
+				}
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 
@@ -229,11 +259,38 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			}
 		}
 
+		if ( statePool != null ) {
+			statePool.returnFlushEntityEvent( entityEvent );
+		}
+
 		source.getActionQueue().sortActions();
 
 		return count;
 	}
 
+	private static boolean hasOnlyDefaultFlushEntityListener(EventListenerGroup<FlushEntityEventListener> listeners) {
+		return listeners.count() == 1
+			&& listeners.listeners().iterator().next().getClass() == DefaultFlushEntityEventListener.class;
+	}
+
+	/**
+	 * Determine, as cheaply as possible, whether the {@link DefaultFlushEntityEventListener}
+	 * would certainly find nothing to do for the given entity, so that we can avoid
+	 * firing the {@link FlushEntityEvent}. This is the case for a managed entity
+	 * which owns no collections, and which is either unmodifiable, or enhanced for
+	 * dirty tracking and has no dirty attributes. Since such entities are usually
+	 * the vast majority of the entities in a large session, this substantially
+	 * reduces the cost of repeated auto-flushes.
+	 */
+	private static boolean isUnequivocallyUnchanged(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+			&& entry.getLoadedState() != null
+			&& !entry.getPersister().hasCollections()
+			// avoid asking a CustomEntityDirtinessStrategy twice
+			&& ( !entry.isModifiableEntity() || isSelfDirtinessTracker( entity ) && !entry.requiresDirtyCheck( entity ) );
+	}
+
 	/**
 	 * Reuses a FlushEntityEvent for a new purpose, if possible;
 	 * if not possible a new actual instance is returned.
@@ -6,6 +6,11 @@
  */
 package org.hibernate.event.internal;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.ActionQueue;
@@ -17,10 +22,22 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
+import static java.util.Collections.addAll;
+import static java.util.Collections.disjoint;
+import static java.util.Collections.unmodifiableSet;
+
 /**
  * Defines the default flush event listeners used by hibernate for
  * flushing session state in response to generated auto-flush events.
@@ -31,6 +48,11 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	// marks an entity from which any table at all might be reached
+	private static final Set<String> UNBOUNDED = unmodifiableSet( new HashSet<>() );
+
+	private final Map<String, Set<String>> affectedSpacesByEntityName = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -44,7 +66,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			if ( flushMightBeNeeded( source ) && !flushCertainlyNotNeeded( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -92,6 +114,105 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Determine, without dirty checking anything, that flushing the session
+	 * could not possibly affect the tables the query reads from. This is the
+	 * case if no queued action affects those tables, and if there is no path
+	 * from a managed entity to any of those tables via its own tables, its
+	 * collection tables, and the entities it is associated with.
+	 */
+	private boolean flushCertainlyNotNeeded(AutoFlushEvent event, EventSource source) {
+		if ( source.getHibernateFlushMode() == FlushMode.ALWAYS ) {
+			return false;
+		}
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( querySpaces.isEmpty() ) {
+			// a flush would never be really needed
+			return true;
+		}
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		if ( persistenceContext.getNumberOfManagedEntities() == 0
+				|| source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return false;
+		}
+		for ( EntityPersister persister : persistenceContext.getManagedEntityPersisters() ) {
+			final Set<String> spaces = affectedSpaces( persister, source.getFactory().getMappingMetamodel() );
+			if ( spaces == null || !disjoint( spaces, querySpaces ) ) {
+				return false;
+			}
+		}
+		LOG.trace( "Query spaces not affected by flush" );
+		return true;
+	}
+
+	/**
+	 * The tables which flushing an instance of the given entity could write to,
+	 * or {@code null} if they cannot be determined.
+	 */
+	private Set<String> affectedSpaces(EntityPersister persister, MappingMetamodelImplementor metamodel) {
+		Set<String> spaces = affectedSpacesByEntityName.get( persister.getEntityName() );
+		if ( spaces == null ) {
+			final AffectedSpaces collector = new AffectedSpaces( metamodel );
+			collector.addEntity( persister );
+			spaces = collector.unbounded ? UNBOUNDED : unmodifiableSet( collector.spaces );
+			affectedSpacesByEntityName.put( persister.getEntityName(), spaces );
+		}
+		return spaces == UNBOUNDED ? null : spaces;
+	}
+
+	/**
+	 * Collects the tables reachable from an entity, following associations
+	 * to the target entity and all its subclasses, whether cascaded or not,
+	 * since a flush might insert, update, or delete rows of any of them.
+	 */
+	private static class AffectedSpaces {
+		private final MappingMetamodelImplementor metamodel;
+		private final Set<String> spaces = new HashSet<>();
+		private final Set<String> visitedEntityNames = new HashSet<>();
+		private boolean unbounded;
+
+		private AffectedSpaces(MappingMetamodelImplementor metamodel) {
+			this.metamodel = metamodel;
+		}
+
+		private void addEntity(EntityPersister persister) {
+			if ( !unbounded && visitedEntityNames.add( persister.getEntityName() ) ) {
+				addAll( spaces, persister.getSynchronizedQuerySpaces() );
+				addType( persister.getIdentifierType() );
+				for ( Type type : persister.getPropertyTypes() ) {
+					addType( type );
+				}
+				for ( String subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+					addEntity( metamodel.getEntityDescriptor( subclassEntityName ) );
+				}
+			}
+		}
+
+		private void addType(Type type) {
+			if ( type instanceof AnyType ) {
+				// could refer to any entity at all
+				unbounded = true;
+			}
+			else if ( type instanceof EntityType ) {
+				addEntity( metamodel.getEntityDescriptor( ( (EntityType) type ).getAssociatedEntityName() ) );
+			}
+			else if ( type instanceof CollectionType ) {
+				final CollectionPersister collectionPersister =
+						metamodel.getCollectionDescriptor( ( (CollectionType) type ).getRole() );
+				addAll( spaces, collectionPersister.getCollectionSpaces() );
+				addType( collectionPersister.getElementType() );
+				if ( collectionPersister.hasIndex() ) {
+					addType( collectionPersister.getIndexType() );
+				}
+			}
+			else if ( type instanceof CompositeType ) {
+				for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+					addType( subtype );
+				}
+			}
+		}
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -35,6 +35,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -135,7 +136,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
+		final boolean pooledValues = isFromStatePool( event, values );
 
 		event.setPropertyValues( values );
 
@@ -143,7 +145,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		boolean substitute = wrapCollections( event, values );
 
-		if ( isUpdateNecessary( event, mightBeDirty ) ) {
+		final boolean updateNecessary = isUpdateNecessary( event, mightBeDirty );
+		if ( updateNecessary ) {
 			substitute = scheduleUpdate( event ) || substitute;
 		}
 
@@ -162,9 +165,30 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			}
 		}
 
+		// the values of an updated entity belong to the update action
+		if ( pooledValues && !updateNecessary ) {
+			event.setPropertyValues( null );
+			event.getStatePool().returnValues( values );
+		}
+	}
+
+	private static boolean usesStatePool(FlushEntityEvent event, EntityPersister persister) {
+		return event.getStatePool() != null
+			&& !event.hasPrecomputedDirtyCheck()
+			&& persister instanceof AbstractEntityPersister;
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private static boolean isFromStatePool(FlushEntityEvent event, Object[] values) {
+		final EntityEntry entry = event.getEntityEntry();
+		return usesStatePool( event, entry.getPersister() )
+			&& values != entry.getLoadedState()
+			&& values != entry.getDeletedState();
+	}
+
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final EventSource session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -177,8 +201,21 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already read by a parallel dirty check
+			final Object[] values;
+			if ( event.hasPrecomputedDirtyCheck() ) {
+				values = event.getPrecomputedPropertyValues();
+			}
+			else if ( usesStatePool( event, persister ) ) {
+				final AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+				values = entityPersister.getValues(
+						entity,
+						event.getStatePool().takeValues( entityPersister.getNumberOfAttributeMappings() )
+				);
+			}
+			else {
+				values = persister.getValues( entity );
+			}
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -477,6 +514,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			event.setDirtyCheckHandledByInterceptor( true );
 			event.setDirtyCheckPossible( true );
 		}
+		// a callback or interceptor might change the values before they are compared again
+		event.setPrecomputedDirtyCheck( null, null, null );
 		logDirtyProperties( event.getEntityEntry(), dirtyProperties );
 	}
 
@@ -496,7 +535,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues()
+						? completeDirtyCheck( event, values, loadedState )
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -542,6 +583,41 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		return dirtyProperties;
 	}
 
+	/**
+	 * Compare the properties which were not already compared by the parallel
+	 * dirty check, and merge the results.
+	 *
+	 * @see AbstractFlushingEventListener
+	 */
+	private static int[] completeDirtyCheck(FlushEntityEvent event, Object[] values, Object[] loadedState) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) event.getEntityEntry().getPersister();
+		final int[] precomputed = event.getPrecomputedDirtyProperties();
+		final int[] remaining = persister.findDirty( values, loadedState, event.getUncheckedProperties(), event.getSession() );
+		if ( precomputed == null ) {
+			return remaining;
+		}
+		else if ( remaining == null ) {
+			return precomputed;
+		}
+		else {
+			// merge the two sorted arrays of property indexes
+			final int[] merged = new int[precomputed.length + remaining.length];
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			while ( i < precomputed.length && j < remaining.length ) {
+				merged[k++] = precomputed[i] < remaining[j] ? precomputed[i++] : remaining[j++];
+			}
+			while ( i < precomputed.length ) {
+				merged[k++] = precomputed[i++];
+			}
+			while ( j < remaining.length ) {
+				merged[k++] = remaining[j++];
+			}
+			return merged;
+		}
+	}
+
 	/**
 	 * Attempt to get the dirty properties from either the Interceptor,
 	 * the bytecode enhancement, or a custom dirtiness strategy.
@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Reads the current state of the entities to be flushed, and compares it with
+ * their loaded state, using the common {@link java.util.concurrent.ForkJoinPool},
+ * before the {@link FlushEntityEvent}s are processed one after the other.
+ * <p>
+ * Only properties which can be compared without access to the session, that is,
+ * basic and embedded properties, are compared in parallel. Associations and
+ * collections are compared later, by {@link DefaultFlushEntityEventListener},
+ * on the flushing thread. Entities which are enhanced, or are not in the plain
+ * managed state, are left entirely to the listener.
+ *
+ * @see org.hibernate.cfg.BatchSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyChecker {
+	private static final int CHUNK_SIZE = 256;
+
+	// marks a persister which does not use the standard dirty check
+	private static final Properties INELIGIBLE = new Properties( null, null );
+
+	private final Map<EntityPersister, Properties> propertiesByPersister = new ConcurrentHashMap<>();
+
+	/**
+	 * The properties of an entity, partitioned by whether they are compared
+	 * in parallel, or by the listener.
+	 */
+	private static final class Properties {
+		private final boolean[] checked;
+		private final boolean[] unchecked;
+
+		private Properties(boolean[] checked, boolean[] unchecked) {
+			this.checked = checked;
+			this.unchecked = unchecked;
+		}
+	}
+
+	/**
+	 * The result of reading and comparing the state of a single entity.
+	 */
+	static final class Result {
+		private final Object[] values;
+		private final int[] dirtyProperties;
+		private final boolean[] uncheckedProperties;
+
+		private Result(Object[] values, int[] dirtyProperties, boolean[] uncheckedProperties) {
+			this.values = values;
+			this.dirtyProperties = dirtyProperties;
+			this.uncheckedProperties = uncheckedProperties;
+		}
+
+		void applyTo(FlushEntityEvent event) {
+			event.setPrecomputedDirtyCheck( values, dirtyProperties, uncheckedProperties );
+		}
+	}
+
+	/**
+	 * @return the results, by index of the given entries, where a
+	 *         {@code null} element means the entity was not checked
+	 */
+	Result[] check(Map.Entry<Object, EntityEntry>[] entries, SharedSessionContractImplementor session) {
+		final Result[] results = new Result[entries.length];
+		final int chunks = ( entries.length + CHUNK_SIZE - 1 ) / CHUNK_SIZE;
+		IntStream.range( 0, chunks ).parallel().forEach( chunk -> {
+			final int end = Math.min( entries.length, ( chunk + 1 ) * CHUNK_SIZE );
+			for ( int i = chunk * CHUNK_SIZE; i < end; i++ ) {
+				results[i] = check( entries[i].getKey(), entries[i].getValue(), session );
+			}
+		} );
+		return results;
+	}
+
+	private Result check(Object entity, EntityEntry entry, SharedSessionContractImplementor session) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| !entry.isModifiableEntity()
+				|| isPersistentAttributeInterceptable( entity )
+				|| isSelfDirtinessTracker( entity ) ) {
+			return null;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Properties properties = propertiesByPersister.computeIfAbsent( persister, ParallelDirtyChecker::partition );
+		if ( properties == INELIGIBLE ) {
+			return null;
+		}
+		try {
+			final AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+			final Object[] values = entityPersister.getValues( entity );
+			final int[] dirty = entityPersister.findDirty( values, loadedState, properties.checked, session );
+			return new Result( values, dirty, properties.unchecked );
+		}
+		catch (RuntimeException e) {
+			// leave it to the listener, which reports any error in order
+			return null;
+		}
+	}
+
+	private static Properties partition(EntityPersister persister) {
+		if ( !usesStandardDirtyCheck( persister ) ) {
+			return INELIGIBLE;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] checked = new boolean[types.length];
+		final boolean[] unchecked = new boolean[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			checked[i] = isComparableWithoutSession( types[i] );
+			unchecked[i] = !checked[i];
+		}
+		return new Properties( checked, unchecked );
+	}
+
+	private static boolean usesStandardDirtyCheck(EntityPersister persister) {
+		if ( !( persister instanceof AbstractEntityPersister ) ) {
+			return false;
+		}
+		try {
+			return persister.getClass()
+					.getMethod( "findDirty", Object[].class, Object[].class, Object.class, SharedSessionContractImplementor.class )
+					.getDeclaringClass() == AbstractEntityPersister.class;
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static boolean isComparableWithoutSession(Type type) {
+		if ( type.isAssociationType() ) {
+			return false;
+		}
+		else if ( type instanceof CompositeType ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isComparableWithoutSession( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return true;
+		}
+	}
+}
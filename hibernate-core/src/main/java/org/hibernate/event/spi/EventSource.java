@@ -7,6 +7,7 @@
 package org.hibernate.event.spi;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -66,4 +67,15 @@ public interface EventSource extends SessionImplementor {
 	// ordering is improved.
 	void removeOrphanBeforeUpdates(String entityName, Object child);
 
+	/**
+	 * Get the event and arrays reused by successive flushes of this session,
+	 * or {@code null} if they are not reused.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#FLUSH_STATE_REUSE
+	 */
+	@Internal
+	default FlushStatePool getFlushStatePool() {
+		return null;
+	}
+
 }
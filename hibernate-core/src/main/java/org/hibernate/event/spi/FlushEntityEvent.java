@@ -6,6 +6,7 @@
  */
 package org.hibernate.event.spi;
 
+import org.hibernate.Internal;
 import org.hibernate.engine.spi.EntityEntry;
 
 /**
@@ -21,6 +22,10 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
+	private boolean[] uncheckedProperties;
+	private FlushStatePool statePool;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -79,6 +84,51 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * Supply the current state of the entity, read ahead of the event, along with
+	 * the result of comparing some of its properties with the loaded state.
+	 *
+	 * @param propertyValues The current state of the entity
+	 * @param dirtyProperties The dirty properties among those already compared, or {@code null}
+	 * @param uncheckedProperties The properties which still need to be compared
+	 */
+	@Internal
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties, boolean[] uncheckedProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+		this.uncheckedProperties = uncheckedProperties;
+	}
+	@Internal
+	public boolean hasPrecomputedDirtyCheck() {
+		return uncheckedProperties != null;
+	}
+	@Internal
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	@Internal
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+	@Internal
+	public boolean[] getUncheckedProperties() {
+		return uncheckedProperties;
+	}
+
+	/**
+	 * Supply a pool from which the listener may take the array of property
+	 * values, and to which it returns the array if the entity is not dirty.
+	 * Only set when nothing but the default listener can see the values.
+	 */
+	@Internal
+	public void setStatePool(FlushStatePool statePool) {
+		this.statePool = statePool;
+	}
+	@Internal
+	public FlushStatePool getStatePool() {
+		return statePool;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +152,9 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
+		this.uncheckedProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
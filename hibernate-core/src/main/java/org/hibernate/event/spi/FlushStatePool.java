@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import java.util.Arrays;
+
+import org.hibernate.Internal;
+
+/**
+ * Holds the {@link FlushEntityEvent} and the arrays of property values which
+ * a session reuses from one flush to the next, instead of allocating new ones
+ * for every entity on every flush.
+ * <p>
+ * A pool belongs to a single session, and so it is never accessed concurrently.
+ * An array is taken out of the pool while it is in use, so a nested use, should
+ * one ever occur, simply allocates a new array.
+ *
+ * @see org.hibernate.cfg.BatchSettings#FLUSH_STATE_REUSE
+ */
+@Internal
+public final class FlushStatePool {
+	private FlushEntityEvent flushEntityEvent;
+	// one spare array for each number of properties
+	private Object[][] valueArrays = new Object[16][];
+
+	/**
+	 * Take the event instance left by the previous flush, if any.
+	 */
+	public FlushEntityEvent takeFlushEntityEvent() {
+		final FlushEntityEvent event = flushEntityEvent;
+		flushEntityEvent = null;
+		return event;
+	}
+
+	/**
+	 * Keep the given event instance for the next flush, if it may be reused.
+	 */
+	public void returnFlushEntityEvent(FlushEntityEvent event) {
+		if ( event != null && event.isAllowedToReuse() ) {
+			// don't keep the last entity reachable
+			event.resetAndReuseEventInstance( null, null );
+			event.setAllowedToReuse( true );
+			flushEntityEvent = event;
+		}
+	}
+
+	/**
+	 * Take an array of the given length out of the pool, or allocate a new one.
+	 */
+	public Object[] takeValues(int length) {
+		if ( length < valueArrays.length ) {
+			final Object[] values = valueArrays[length];
+			if ( values != null ) {
+				valueArrays[length] = null;
+				return values;
+			}
+		}
+		return new Object[length];
+	}
+
+	/**
+	 * Return an array, which is no longer referenced by anything else, to the pool.
+	 */
+	public void returnValues(Object[] values) {
+		final int length = values.length;
+		if ( length >= valueArrays.length ) {
+			valueArrays = Arrays.copyOf( valueArrays, length + 1 );
+		}
+		// don't keep the property values reachable
+		Arrays.fill( values, null );
+		valueArrays[length] = values;
+	}
+}
@@ -84,6 +84,7 @@ import org.hibernate.event.spi.EvictEvent;
 import org.hibernate.event.spi.EvictEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.FlushStatePool;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.event.spi.LoadEvent;
@@ -219,6 +220,8 @@ public class SessionImpl
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 
+	private transient FlushStatePool flushStatePool;
+
 	private transient TransactionObserver transactionObserver;
 
 	// TODO: this is unused and can be removed
@@ -1830,6 +1833,14 @@ public class SessionImpl
 		return actionQueue;
 	}
 
+	@Override
+	public FlushStatePool getFlushStatePool() {
+		if ( flushStatePool == null && getFactory().getSessionFactoryOptions().isFlushStateReuseEnabled() ) {
+			flushStatePool = new FlushStatePool();
+		}
+		return flushStatePool;
+	}
+
 	@Override
 	public PersistenceContext getPersistenceContext() {
 		checkOpenOrWaitingForAutoClose();
@@ -6,20 +6,28 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityHolder;
@@ -36,14 +44,18 @@ import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinator;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import jakarta.persistence.EntityGraph;
 import jakarta.transaction.SystemException;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.incrementVersion;
@@ -98,7 +110,93 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		return performInsert( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		final BulkLoadSupport bulkLoadSupport = options.isBulkLoadEnabled()
+				? getJdbcServices().getDialect().getBulkLoadSupport()
+				: null;
+		final boolean multiRowInsertEnabled = options.isMultiRowInsertEnabled();
+		// read before performMultiple() overrides the batch size
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		performMultiple( entities, (persister, group) -> {
+			final InsertCoordinator insertCoordinator = persister.getInsertCoordinator();
+			if ( bulkLoadSupport != null && insertCoordinator.isBulkInsertSupported( bulkLoadSupport ) ) {
+				performBulkInsert( persister, group, bulkLoadSupport );
+			}
+			else if ( multiRowInsertEnabled && group.size() > 1 && insertCoordinator.isMultiRowInsertSupported() ) {
+				performMultiRowInsert( persister, group, configuredJdbcBatchSize );
+			}
+			else {
+				for ( Object entity : group ) {
+					performInsert( persister, entity );
+				}
+			}
+		} );
+	}
+
+	private void performBulkInsert(EntityPersister persister, List<Object> entities, BulkLoadSupport bulkLoadSupport) {
+		final Object[] ids = new Object[entities.size()];
+		final List<Object[]> states = prepareMultipleInsert( persister, entities, ids );
+		// rows for other entity types may still be waiting in a batch
+		getJdbcCoordinator().executeBatch();
+		persister.getInsertCoordinator().bulkInsert( entities, ids, states, bulkLoadSupport, this );
+	}
+
+	private void performMultiRowInsert(EntityPersister persister, List<Object> entities, int configuredJdbcBatchSize) {
+		final Object[] ids = persister.getGenerator().generatedOnExecution() ? null : new Object[entities.size()];
+		final List<Object[]> states = prepareMultipleInsert( persister, entities, ids );
+		// rows for other entity types may still be waiting in a batch
+		getJdbcCoordinator().executeBatch();
+		// the rows per statement are limited by the configured batch size,
+		// not by the number of entities set by performMultiple()
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		setJdbcBatchSize( configuredJdbcBatchSize > 1 ? configuredJdbcBatchSize : null );
+		final Object[] insertedIds;
+		try {
+			insertedIds = persister.getInsertCoordinator().multiRowInsert( entities, ids, states, this );
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+		if ( ids == null ) {
+			for ( int i = 0; i < insertedIds.length; i++ ) {
+				persister.setIdentifier( entities.get( i ), insertedIds[i], this );
+			}
+		}
+	}
+
+	/**
+	 * Extract the state of each of the given entities, seeding the version,
+	 * and generate and assign the identifiers, unless {@code ids} is null.
+	 */
+	private List<Object[]> prepareMultipleInsert(EntityPersister persister, List<Object> entities, Object @Nullable [] ids) {
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			final Object[] state = persister.getValues( entity );
+			final Object id = ids == null
+					? null
+					: ( (BeforeExecutionGenerator) persister.getGenerator() ).generate( this, entity, null, INSERT );
+			if ( persister.isVersioned() ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			if ( ids != null ) {
+				persister.setIdentifier( entity, id, this );
+				ids[i] = id;
+			}
+			states.add( state );
+		}
+		return states;
+	}
+
+	private Object performInsert(EntityPersister persister, Object entity) {
 		final Object id;
 		final Object[] state = persister.getValues( entity );
 		final Generator generator = persister.getGenerator();
@@ -131,7 +229,16 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		performDelete( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		performMultiple( entities, each( this::performDelete ) );
+	}
+
+	private void performDelete(EntityPersister persister, Object entity) {
 		final Object id = persister.getIdentifier( entity, this );
 		final Object version = persister.getVersion( entity );
 		persister.getDeleteCoordinator().delete( entity, id, version, this );
@@ -155,7 +262,16 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		performUpdate( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		performMultiple( entities, each( this::performUpdate ) );
+	}
+
+	private void performUpdate(EntityPersister persister, Object entity) {
 		final Object id = persister.getIdentifier( entity, this );
 		final Object[] state = persister.getValues( entity );
 		final Object oldVersion;
@@ -171,6 +287,51 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.getUpdateCoordinator().update( entity, id, null, state, oldVersion, null, null, false, this );
 	}
 
+	/**
+	 * Apply the given operation to the given entities, grouped by entity
+	 * type, so that the statements for each type end up in a single JDBC
+	 * batch, and then execute the last pending batch.
+	 */
+	private void performMultiple(List<?> entities, BiConsumer<EntityPersister, List<Object>> operation) {
+		if ( entities.isEmpty() ) {
+			return;
+		}
+
+		final Map<EntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), p -> new ArrayList<>() )
+					.add( entity );
+		}
+
+		// set the batch size explicitly for the duration of the operation: the
+		// configured size (which accounts for the Dialect default) if batching is
+		// enabled, or else the number of entities, to batch each group as a whole
+		final Integer sessionJdbcBatchSize = getJdbcBatchSize();
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		setJdbcBatchSize( configuredJdbcBatchSize > 1 ? configuredJdbcBatchSize : entities.size() );
+		try {
+			for ( Map.Entry<EntityPersister, List<Object>> entry : entitiesByPersister.entrySet() ) {
+				operation.accept( entry.getKey(), entry.getValue() );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( sessionJdbcBatchSize );
+		}
+	}
+
+	private static BiConsumer<EntityPersister, List<Object>> each(BiConsumer<EntityPersister, Object> operation) {
+		return (persister, group) -> {
+			for ( Object entity : group ) {
+				operation.accept( persister, entity );
+			}
+		};
+	}
+
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
@@ -262,6 +423,62 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<?> results = getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), this, StatelessMultiIdLoadOptions.INSTANCE );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) results;
+	}
+
+	/**
+	 * There is no session cache, and a stateless session never
+	 * interacts with the second-level cache when loading by id.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	private EntityPersister getEntityPersister(String entityName) {
 		return getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
 	}
@@ -0,0 +1,597 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, with an
+ * eviction policy based on the W-TinyLFU scheme of Einziger, Friedman and
+ * Manes, as popularized by Caffeine.
+ * <ul>
+ * <li>Reads never block: a hit is a lookup in a {@link ConcurrentHashMap},
+ *     and is recorded in a lossy, striped buffer which is replayed against
+ *     the eviction policy later, by whichever thread holds the policy lock.
+ * <li>New entries enter a small LRU "window", and, when they overflow it,
+ *     compete for admission to the main space against the LRU victim of
+ *     the main space. The entry which has been used least often, according
+ *     to a compact count-min sketch of recent access frequencies, is evicted.
+ * <li>The main space is a segmented LRU: entries accessed again while on
+ *     probation are promoted to a protected segment.
+ * </ul>
+ * <p>
+ * Writes, which are expected to be rare compared to reads, take the policy
+ * lock. Entries are never evicted on the read path.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class TinyLfuCache<K, V> {
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int MAX_READ_BUFFERS = 64;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+
+	private final ReadBuffer[] readBuffers;
+	private final ReentrantLock policyLock = new ReentrantLock();
+
+	// guarded by policyLock
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final long maximumWeight;
+	private final long windowMaximum;
+	private final long protectedMaximum;
+	private long weightedSize;
+	private long windowWeightedSize;
+	private long protectedWeightedSize;
+
+	/**
+	 * Create a cache in which every entry has weight 1.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 */
+	public TinyLfuCache(int maximumSize) {
+		this( maximumSize, (key, value) -> 1, null );
+	}
+
+	/**
+	 * Create a cache with the given maximum total weight.
+	 *
+	 * @param maximumWeight the maximum total weight of the entries
+	 * @param weigher determines the weight of an entry, must be positive
+	 * @param evictionListener notified when an entry is evicted, may be null
+	 */
+	public TinyLfuCache(
+			long maximumWeight,
+			ToIntBiFunction<? super K, ? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumWeight <= 0 ) {
+			throw new IllegalArgumentException( "Maximum weight must be positive" );
+		}
+		this.maximumWeight = maximumWeight;
+		this.windowMaximum = Math.max( 1, maximumWeight / 100 );
+		this.protectedMaximum = ( maximumWeight - windowMaximum ) * 4 / 5;
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( (int) Math.min( maximumWeight, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumWeight );
+
+		final int buffers = Math.min(
+				MAX_READ_BUFFERS,
+				ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() )
+		);
+		this.readBuffers = new ReadBuffer[buffers];
+		for ( int i = 0; i < buffers; i++ ) {
+			readBuffers[i] = new ReadBuffer();
+		}
+	}
+
+	/**
+	 * The number of entries currently in the cache.
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * The total weight of the entries currently in the cache, as of the
+	 * last write.
+	 */
+	public long weightedSize() {
+		policyLock.lock();
+		try {
+			return weightedSize;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	/**
+	 * The value cached for the given key, or null if there is none.
+	 */
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	/**
+	 * The value cached for the given key, computing and caching a value
+	 * if there is none. The computation is not performed atomically, and
+	 * so concurrent callers might compute a value for the same key, but
+	 * all callers see the value which ends up in the cache.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+		final Node<K, V> node = new Node<>( key, value, weigh( key, value ) );
+		final Node<K, V> racing = data.putIfAbsent( key, node );
+		if ( racing != null ) {
+			afterRead( racing );
+			return racing.value;
+		}
+		afterWrite( node, null );
+		return value;
+	}
+
+	/**
+	 * Cache the given value, replacing any existing value for the key.
+	 */
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value, weigh( key, value ) );
+		final Node<K, V> previous = data.put( key, node );
+		afterWrite( node, previous );
+	}
+
+	/**
+	 * Visit the keys of all entries in the cache, without recording
+	 * accesses to the entries.
+	 */
+	public void forEachKey(Consumer<? super K> action) {
+		data.keySet().forEach( action );
+	}
+
+	/**
+	 * Remove all entries from the cache.
+	 */
+	public void clear() {
+		policyLock.lock();
+		try {
+			drainReadBuffers();
+			for ( Node<K, V> node : data.values() ) {
+				node.retired = true;
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			weightedSize = 0;
+			windowWeightedSize = 0;
+			protectedWeightedSize = 0;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private int weigh(K key, V value) {
+		final int weight = weigher.applyAsInt( key, value );
+		if ( weight <= 0 ) {
+			throw new IllegalArgumentException( "Weight must be positive" );
+		}
+		return weight;
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer buffer = readBuffers[ readBufferIndex() ];
+		if ( !buffer.offer( node ) && policyLock.tryLock() ) {
+			// the buffer is full, so replay it now if nobody else is
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private int readBufferIndex() {
+		final long id = Thread.currentThread().getId();
+		int hash = (int) ( id ^ ( id >>> 32 ) ) * 0x9E3779B9;
+		hash ^= hash >>> 16;
+		return hash & ( readBuffers.length - 1 );
+	}
+
+	private void afterWrite(Node<K, V> node, Node<K, V> previous) {
+		policyLock.lock();
+		try {
+			drainReadBuffers();
+			if ( previous != null ) {
+				retire( previous );
+			}
+			// a concurrent write to the same key might already have replaced this node
+			if ( !node.retired ) {
+				sketch.increment( node.key.hashCode() );
+				node.queue = WINDOW;
+				window.linkLast( node );
+				windowWeightedSize += node.weight;
+				weightedSize += node.weight;
+				evict();
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void drainReadBuffers() {
+		for ( ReadBuffer buffer : readBuffers ) {
+			buffer.drainTo( this );
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		sketch.increment( node.key.hashCode() );
+		if ( node.retired || !node.linked ) {
+			return;
+		}
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.unlink( node );
+				node.queue = PROTECTED;
+				protectedSegment.linkLast( node );
+				protectedWeightedSize += node.weight;
+				// demote the least recently used protected entries
+				while ( protectedWeightedSize > protectedMaximum ) {
+					final Node<K, V> demoted = protectedSegment.first;
+					protectedSegment.unlink( demoted );
+					protectedWeightedSize -= demoted.weight;
+					demoted.queue = PROBATION;
+					probation.linkLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSegment.moveToBack( node );
+				break;
+		}
+	}
+
+	private void evict() {
+		// move the overflow of the window to the probation segment,
+		// where these candidates compete with the existing entries
+		Node<K, V> candidate = null;
+		while ( windowWeightedSize > windowMaximum ) {
+			final Node<K, V> node = window.first;
+			window.unlink( node );
+			windowWeightedSize -= node.weight;
+			node.queue = PROBATION;
+			probation.linkLast( node );
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		while ( weightedSize > maximumWeight ) {
+			Node<K, V> victim = probation.first;
+			if ( victim == null ) {
+				victim = protectedSegment.first;
+			}
+			if ( victim == null ) {
+				victim = window.first;
+			}
+			if ( victim == null ) {
+				break;
+			}
+
+			if ( candidate == null || candidate.queue != PROBATION || !candidate.linked ) {
+				evict( victim );
+			}
+			else if ( victim == candidate ) {
+				candidate = candidate.next;
+				evict( victim );
+			}
+			else if ( admit( candidate, victim ) ) {
+				evict( victim );
+			}
+			else {
+				final Node<K, V> rejected = candidate;
+				candidate = candidate.next;
+				evict( rejected );
+			}
+		}
+	}
+
+	private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+		final int candidateFrequency = sketch.frequency( candidate.key.hashCode() );
+		final int victimFrequency = sketch.frequency( victim.key.hashCode() );
+		if ( candidateFrequency > victimFrequency ) {
+			return true;
+		}
+		else if ( candidateFrequency <= 5 ) {
+			return false;
+		}
+		else {
+			// admit warm candidates now and then, so that an attacker
+			// can't pin a victim by inflating its apparent frequency
+			return ( ThreadLocalRandom.current().nextInt() & 127 ) == 0;
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		retire( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	private void retire(Node<K, V> node) {
+		node.retired = true;
+		if ( node.linked ) {
+			switch ( node.queue ) {
+				case WINDOW:
+					window.unlink( node );
+					windowWeightedSize -= node.weight;
+					break;
+				case PROBATION:
+					probation.unlink( node );
+					break;
+				case PROTECTED:
+					protectedSegment.unlink( node );
+					protectedWeightedSize -= node.weight;
+					break;
+			}
+			weightedSize -= node.weight;
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int x) {
+		return x <= 1 ? 1 : Integer.highestOneBit( x - 1 ) << 1;
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final int weight;
+
+		// guarded by the policy lock
+		private volatile boolean retired;
+		private boolean linked;
+		private int queue;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			// identity semantics, used by ConcurrentHashMap.remove(key, node)
+			return this == other;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes, ordered from least
+	 * to most recently used.
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		private void linkLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			node.linked = true;
+		}
+
+		private void unlink(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.linked = false;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				unlink( node );
+				linkLast( node );
+			}
+		}
+
+		private void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.linked = false;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * A bounded, lossy, multiple-producer single-consumer ring buffer of
+	 * recently read nodes. Reads are dropped when the buffer is full or
+	 * contended, which only costs some accuracy of the eviction policy.
+	 */
+	private static final class ReadBuffer {
+		private final AtomicReferenceArray<Node<?, ?>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code false} if the buffer is full, and should be drained
+		 */
+		private boolean offer(Node<?, ?> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			if ( tail - head >= READ_BUFFER_SIZE ) {
+				return false;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) ( tail & READ_BUFFER_MASK ), node );
+			}
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <K, V> void drainTo(TinyLfuCache<K, V> cache) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			while ( head < tail ) {
+				final int index = (int) ( head & READ_BUFFER_MASK );
+				final Node<?, ?> node = buffer.get( index );
+				if ( node == null ) {
+					// the write to this slot is not yet visible
+					break;
+				}
+				buffer.lazySet( index, null );
+				cache.onAccess( (Node<K, V>) node );
+				head++;
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * A count-min sketch of the access frequencies of keys, with 4-bit
+	 * counters, which are periodically halved so that the frequencies
+	 * reflect recent history.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int sampleSize;
+		private int size;
+
+		private FrequencySketch(long maximumSize) {
+			final int maximum = (int) Math.min( maximumSize, 1 << 24 );
+			this.table = new long[ Math.max( 8, ceilingPowerOfTwo( maximum ) ) ];
+			this.sampleSize = 10 * Math.max( maximum, 8 );
+		}
+
+		private int frequency(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size - ( odd >>> 2 ) ) >>> 1;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & ( table.length - 1 );
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
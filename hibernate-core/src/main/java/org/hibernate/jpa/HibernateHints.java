@@ -223,4 +223,24 @@ public interface HibernateHints {
 	 * @since 6.3
 	 */
 	String HINT_QUERY_PLAN_CACHEABLE = "hibernate.query.plan.cacheable";
+
+	/**
+	 * Hint for specifying that entities returned by the
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultStream
+	 * result stream} of a query should be detached from the persistence
+	 * context as soon as the stream advances past them, so that a long
+	 * stream may be processed in constant memory.
+	 * <p>
+	 * Associated entities are only detached when the association
+	 * cascades {@link jakarta.persistence.CascadeType#DETACH}. Entities
+	 * which were already associated with the session before the stream
+	 * was opened are detached too.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#getResultStream
+	 * @see org.hibernate.Session#detach
+	 * @see #HINT_FETCH_SIZE
+	 *
+	 * @since 6.5
+	 */
+	String HINT_DETACH_STREAMED_RESULTS = "org.hibernate.detachStreamedResults";
 }
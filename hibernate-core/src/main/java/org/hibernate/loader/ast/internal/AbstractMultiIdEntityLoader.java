@@ -6,14 +6,23 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Base support for {@link MultiIdEntityLoader} implementations.
@@ -48,8 +57,13 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		return getEntityDescriptor();
 	}
 
-	@Override
+	@Override @Deprecated(since = "6.5")
 	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		return load( ids, loadOptions, (SharedSessionContractImplementor) session );
+	}
+
+	@Override
+	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		assert ids != null;
 		if ( loadOptions.isOrderReturnEnabled() ) {
 			return performOrderedMultiLoad( ids, loadOptions, session );
@@ -59,8 +73,56 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		}
 	}
 
-	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	/**
+	 * The keys of the entities with the given identifiers, which are
+	 * coerced to the identifier type unless JPA compliance forbids it.
+	 */
+	protected EntityKey[] entityKeys(Object[] ids, SharedSessionContractImplementor session) {
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? getLoadable().getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			entityKeys[i] = new EntityKey( id, getLoadable().getEntityPersister() );
+		}
+		return entityKeys;
+	}
+
+	/**
+	 * Reads the second-level cache entries of the given entities in a single
+	 * operation, so that the entities are then resolved one by one without
+	 * each going back to the cache. When session checking is enabled, the
+	 * entities already associated with the session are not read.
+	 *
+	 * @return the entries found by entity key
+	 */
+	protected Map<EntityKey, Object> readFromSecondLevelCache(
+			EntityKey[] entityKeys,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return Collections.emptyMap();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<EntityKey> keysToRead = new LinkedHashSet<>();
+		for ( EntityKey entityKey : entityKeys ) {
+			if ( !loadOptions.isSessionCheckingEnabled() || !persistenceContext.containsEntity( entityKey ) ) {
+				keysToRead.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session.asEventSource(),
+				lockOptions.getLockMode(),
+				getLoadable().getEntityPersister(),
+				new ArrayList<>( keysToRead )
+		);
+	}
+
+	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
 
-	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
 
 }
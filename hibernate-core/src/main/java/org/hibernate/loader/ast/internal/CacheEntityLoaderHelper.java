@@ -6,6 +6,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -207,7 +212,39 @@ public class CacheEntityLoaderHelper {
 				persister,
 				entityKey
 		);
+		return postLoad( event, persister, entity );
+	}
 
+	/**
+	 * Attempts to load the entity from an entry read from the second-level cache
+	 * by {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, List)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The entry read for the entity, or null if none was found
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cacheEntry,
+				event.getSession(),
+				entityKey
+		);
+		return postLoad( event, persister, entity );
+	}
+
+	private static Object postLoad(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
@@ -260,6 +297,70 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Reads the second-level cache entries of the given entities in a single
+	 * operation, instead of one by one as they are loaded.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entries found by entity key, which is empty if the
+	 *         second-level cache may not be used
+	 */
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache || entityKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[entityKeys.size()];
+		for ( int i = 0; i < cacheKeys.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					entityKeys.get( i ).getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Object[] entries = CacheHelper.fromSharedCache( source, cacheKeys, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final Map<EntityKey, Object> entriesByKey = new HashMap<>();
+		for ( int i = 0; i < entries.length; i++ ) {
+			final Object ce = entries[i];
+			if ( ce != null ) {
+				entriesByKey.put( entityKeys.get( i ), ce );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+		}
+		return entriesByKey;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -9,6 +9,7 @@ package org.hibernate.loader.ast.internal;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -18,8 +19,8 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -70,7 +71,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	}
 
 	@Override
-	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performOrderedMultiLoad - %s",
@@ -78,7 +79,6 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			);
 		}
 
-		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
@@ -87,23 +87,18 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
 
+		final EntityKey[] entityKeys = entityKeys( ids, session );
+		final Map<EntityKey, Object> cacheEntries = readFromSecondLevelCache( entityKeys, loadOptions, lockOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id;
-			if ( coerce ) {
-				id = getLoadable().getIdentifierMapping().getJavaType().coerce( ids[ i ], session );
-			}
-			else {
-				id = ids[ i ];
-			}
-
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
+			final EntityKey entityKey = entityKeys[i];
+			final Object id = entityKey.getIdentifier();
 
 			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 				LoadEvent loadEvent = new LoadEvent(
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
@@ -132,7 +127,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries.get( entityKey )
 					);
 				}
 
@@ -226,7 +222,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	protected <K> List<E> performUnorderedMultiLoad(
 			K[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performUnorderedMultiLoad - %s",
@@ -305,34 +301,26 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			ResolutionConsumer<R> resolutionConsumer,
 			@NonNull MultiIdLoadOptions loadOptions,
 			@NonNull LockOptions lockOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( !loadOptions.isSessionCheckingEnabled()
 				&& !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// we'll load all of them from the database
 			return ids;
 		}
 
-		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
-
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
 
+		final EntityKey[] entityKeys = entityKeys( ids, session );
+		final Map<EntityKey, Object> cacheEntries = readFromSecondLevelCache( entityKeys, loadOptions, lockOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id;
-			if ( coerce ) {
-				//noinspection unchecked
-				id = (K) getLoadable().getIdentifierMapping().getJavaType().coerce( ids[i], session );
-			}
-			else {
-				id = ids[i];
-			}
-
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
+			final EntityKey entityKey = entityKeys[i];
+			final Object id = entityKey.getIdentifier();
 			final LoadEvent loadEvent = new LoadEvent(
 					id,
 					getLoadable().getJavaType().getJavaTypeClass().getName(),
 					lockOptions,
-					session,
+					session.asEventSource(),
 					LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 			);
 
@@ -360,7 +348,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 						loadEvent,
 						getLoadable().getEntityPersister(),
-						entityKey
+						entityKey,
+						cacheEntries.get( entityKey )
 				);
 			}
 
@@ -8,6 +8,7 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -16,6 +17,23 @@ import org.hibernate.event.spi.EventSource;
 public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	/**
 	 * Load multiple entities by id.  The exact result depends on the passed options.
+	 *
+	 * @deprecated use {@link #load(Object[], MultiIdLoadOptions, SharedSessionContractImplementor)},
+	 *             which also accepts a stateless session
 	 */
+	@Deprecated(since = "6.5")
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id.  The exact result depends on the passed options.
+	 *
+	 * @implNote The default implementation delegates to
+	 *           {@link #load(Object[], MultiIdLoadOptions, EventSource)},
+	 *           and so supports only stateful sessions.
+	 *
+	 * @since 6.5
+	 */
+	default <K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session) {
+		return load( ids, options, session.asEventSource() );
+	}
 }
@@ -31,6 +31,7 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.StructuredCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
@@ -254,7 +255,10 @@ public abstract class AbstractCollectionPersister
 				.resolveRepresentation( collectionBootDescriptor );
 
 		this.cacheAccessStrategy = cacheAccessStrategy;
-		if ( creationContext.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
+		if ( creationContext.getSessionFactoryOptions().isBinaryCacheEntriesEnabled() ) {
+			cacheEntryStructure = BinaryCollectionCacheEntry.INSTANCE;
+		}
+		else if ( creationContext.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBootDescriptor.isMap()
 					? StructuredMapCacheEntry.INSTANCE
 					: StructuredCollectionCacheEntry.INSTANCE;
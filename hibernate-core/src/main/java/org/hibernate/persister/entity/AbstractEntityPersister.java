@@ -61,6 +61,7 @@ import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -1190,6 +1191,9 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isBinaryCacheEntriesEnabled() ) {
+			return new BinaryCacheEntryHelper( this );
+		}
 		else {
 			return options.isStructuredCacheEntriesEnabled()
 					? new StructuredCacheEntryHelper( this )
@@ -3771,8 +3775,13 @@ public abstract class AbstractEntityPersister
 		throw new IllegalStateException();
 	}
 
-	@Override
+	@Override @Deprecated(since = "6.5")
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		return multiLoad( ids, (SharedSessionContractImplementor) session, loadOptions );
+	}
+
+	@Override
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
@@ -3862,6 +3871,28 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Like {@link #findDirty(Object[], Object[], Object, SharedSessionContractImplementor)},
+	 * but compares only the properties selected by the given array.
+	 *
+	 * @return {@code null} or the indices of the dirty properties among those compared
+	 */
+	@Internal
+	public int[] findDirty(
+			Object[] currentState,
+			Object[] previousState,
+			boolean[] propertiesToCheck,
+			SharedSessionContractImplementor session) {
+		return DirtyHelper.findDirty(
+				entityMetamodel.getProperties(),
+				currentState,
+				previousState,
+				propertyColumnUpdateable,
+				propertiesToCheck,
+				session
+		);
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -4444,23 +4475,36 @@ public abstract class AbstractEntityPersister
 			return accessOptimizer.getPropertyValues( object );
 		}
 		else {
-			final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
-			final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
-			final Object[] values = new Object[ getNumberOfAttributeMappings() ];
-			for ( int i = 0; i < attributeMappings.size(); i++ ) {
-				final AttributeMapping attributeMapping = attributeMappings.get( i );
-				final AttributeMetadata attributeMetadata = attributeMapping.getAttributeMetadata();
-				if ( ! lazyAttributesMetadata.isLazyAttribute( attributeMapping.getAttributeName() )
-						|| enhancementMetadata.isAttributeLoaded( object, attributeMapping.getAttributeName() ) ) {
-					values[i] = attributeMetadata.getPropertyAccess().getGetter().get( object );
-				}
-				else {
-					values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
-				}
-			}
+			return readPropertyValues( object, new Object[ getNumberOfAttributeMappings() ] );
+		}
+	}
+
+	/**
+	 * Like {@link #getValues(Object)}, but reads the state into the given array,
+	 * which must have one element for each attribute, instead of a new array.
+	 *
+	 * @return the given array
+	 */
+	@Internal
+	public Object[] getValues(Object object, Object[] values) {
+		return readPropertyValues( object, values );
+	}
 
-			return values;
+	private Object[] readPropertyValues(Object object, Object[] values) {
+		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
+		final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			final AttributeMetadata attributeMetadata = attributeMapping.getAttributeMetadata();
+			if ( ! lazyAttributesMetadata.isLazyAttribute( attributeMapping.getAttributeName() )
+					|| enhancementMetadata.isAttributeLoaded( object, attributeMapping.getAttributeName() ) ) {
+				values[i] = attributeMetadata.getPropertyAccess().getGetter().get( object );
+			}
+			else {
+				values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
 		}
+		return values;
 	}
 
 	@Override
@@ -4918,6 +4962,24 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return BinaryCacheEntry.INSTANCE;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -37,13 +37,30 @@ class DirtyHelper {
 			final Object[] previousState,
 			final boolean[][] includeColumns,
 			final SharedSessionContractImplementor session) {
+		return findDirty( properties, currentState, previousState, includeColumns, null, session );
+	}
+
+	/**
+	 * Determine if any of the given field values are dirty, considering only the fields
+	 * selected by {@code propertiesToCheck}, or every field if it is {@code null}.
+	 *
+	 * @see #findDirty(NonIdentifierAttribute[], Object[], Object[], boolean[][], SharedSessionContractImplementor)
+	 */
+	public static int[] findDirty(
+			final NonIdentifierAttribute[] properties,
+			final Object[] currentState,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final boolean[] propertiesToCheck,
+			final SharedSessionContractImplementor session) {
 		int[] results = null;
 		int count = 0;
 		int span = properties.length;
 
 		for ( int i = 0; i < span; i++ ) {
 
-			if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
+			if ( ( propertiesToCheck == null || propertiesToCheck[i] )
+					&& isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
 				if ( results == null ) {
 					results = new int[span];
 				}
@@ -607,9 +607,32 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 * @param loadOptions The options for loading
 	 *
 	 * @return The loaded, matching entities
+	 *
+	 * @deprecated use {@link #multiLoad(Object[], SharedSessionContractImplementor, MultiIdLoadOptions)},
+	 *             which also accepts a stateless session
 	 */
+	@Deprecated(since = "6.5")
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier simultaneously.
+	 *
+	 * @param ids The identifiers to load
+	 * @param session The originating Session, which may be stateless
+	 * @param loadOptions The options for loading
+	 *
+	 * @return The loaded, matching entities
+	 *
+	 * @implNote The default implementation delegates to
+	 *           {@link #multiLoad(Object[], EventSource, MultiIdLoadOptions)},
+	 *           and so supports only stateful sessions.
+	 *
+	 * @since 6.5
+	 */
+	default List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiLoad( ids, session.asEventSource(), loadOptions );
+	}
+
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
 		throw new UnsupportedOperationException(
@@ -6,11 +6,17 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.internal.util.NullnessUtil.castNonNull;
+
 /**
  * Coordinates the inserting of an entity.
  *
@@ -36,4 +42,97 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Can instances of this entity be inserted using the given
+	 * {@link BulkLoadSupport}, via {@link #bulkInsert}?
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isBulkInsertSupported(BulkLoadSupport bulkLoadSupport) {
+		return false;
+	}
+
+	/**
+	 * Insert rows for multiple entity instances using the given
+	 * {@link BulkLoadSupport}, if {@link #isBulkInsertSupported} returns
+	 * {@code true}, or otherwise one by one. The identifiers must already
+	 * have been assigned.
+	 *
+	 * @param entities the entity instances
+	 * @param ids the identifiers of the entity instances
+	 * @param values the extracted attribute values of each instance
+	 *
+	 * @implNote The default implementation inserts each instance using
+	 *           {@link #insert(Object, Object, Object[], SharedSessionContractImplementor)}.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default void bulkInsert(
+			List<?> entities,
+			Object[] ids,
+			List<Object[]> values,
+			BulkLoadSupport bulkLoadSupport,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < entities.size(); i++ ) {
+			insert( entities.get( i ), ids[i], values.get( i ), session );
+		}
+	}
+
+	/**
+	 * Can instances of this entity be inserted using {@code insert}
+	 * statements with a multi-row {@code values} list, via
+	 * {@link #multiRowInsert}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_MULTI_ROW_INSERT
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isMultiRowInsertSupported() {
+		return false;
+	}
+
+	/**
+	 * Insert rows for multiple entity instances using {@code insert}
+	 * statements with a multi-row {@code values} list, if
+	 * {@link #isMultiRowInsertSupported} returns {@code true}, or
+	 * otherwise one by one.
+	 *
+	 * @param entities the entity instances
+	 * @param ids the identifiers of the entity instances, or {@code null}
+	 *            if they are generated by the database
+	 * @param values the extracted attribute values of each instance
+	 *
+	 * @return the identifiers of the entity instances
+	 *
+	 * @implNote The default implementation inserts each instance using
+	 *           {@link #insert(Object, Object, Object[], SharedSessionContractImplementor)},
+	 *           or {@link #insert(Object, Object[], SharedSessionContractImplementor)} if
+	 *           the identifiers are generated by the database.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Object[] multiRowInsert(
+			List<?> entities,
+			Object @Nullable [] ids,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final Object[] result = ids == null ? new Object[entities.size()] : ids;
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			if ( ids == null ) {
+				final GeneratedValues generatedValues = insert( entity, values.get( i ), session );
+				result[i] = castNonNull( generatedValues )
+						.getGeneratedValue( session.getEntityPersister( null, entity ).getIdentifierMapping() );
+			}
+			else {
+				insert( entity, ids[i], values.get( i ), session );
+			}
+		}
+		return result;
+	}
 }
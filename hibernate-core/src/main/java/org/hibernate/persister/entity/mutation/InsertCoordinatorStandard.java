@@ -6,17 +6,30 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkLoadSupport;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -24,25 +37,34 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.id.IdentityGenerator;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.descriptor.ValueBinder;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.internal.util.StringHelper.unquote;
 
 /**
  * Coordinates the insertion of an entity.
@@ -53,8 +75,14 @@ import static org.hibernate.generator.EventType.INSERT;
  */
 @Internal
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
+	// the maximum number of rows of a multi-row insert, which is also the
+	// number of rows if the batch size is not set
+	private static final int MULTI_ROW_INSERT_ROW_LIMIT = 1000;
+
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	// multi-row insert statements by row count
+	private final Map<Integer, String> multiRowInsertSql = new ConcurrentHashMap<>();
 
 	public InsertCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -296,6 +324,372 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 		}
 	}
 
+	@Override
+	public boolean isBulkInsertSupported(BulkLoadSupport bulkLoadSupport) {
+		if ( entityPersister().isIdentifierAssignedByInsert() || !isPlainSingleTableInsert() ) {
+			return false;
+		}
+		final JdbcMutationOperation operation = (JdbcMutationOperation) staticInsertGroup.getSingleOperation();
+		for ( JdbcParameterBinder parameterBinder : operation.getParameterBinders() ) {
+			if ( !bulkLoadSupport.supportsType( ( (ColumnValueParameter) parameterBinder ).getJdbcMapping() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isMultiRowInsertSupported() {
+		final AbstractEntityPersister persister = entityPersister();
+		final Dialect dialect = factory().getJdbcServices().getDialect();
+		if ( !dialect.supportsMultiRowInsert() || !isPlainSingleTableInsert() ) {
+			return false;
+		}
+		else if ( persister.isIdentifierAssignedByInsert() ) {
+			// the identifiers are read from the generated keys
+			return dialect.supportsMultiRowInsertGeneratedKeys()
+					&& persister.getGenerator() instanceof IdentityGenerator
+					&& persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping;
+		}
+		else {
+			return true;
+		}
+	}
+
+	/**
+	 * Is the static insert a single statement, with a parameter for
+	 * each of its columns, and no generated values, except possibly
+	 * an identity column?
+	 */
+	private boolean isPlainSingleTableInsert() {
+		final AbstractEntityPersister persister = entityPersister();
+		if ( staticInsertGroup == null
+				|| staticInsertGroup.getNumberOfOperations() != 1
+				|| persister.hasInsertGeneratedProperties()
+				// the discriminator and soft-delete columns are inserted as literals
+				|| persister.getDiscriminatorMapping() != null
+				|| persister.getSoftDeleteMapping() != null ) {
+			return false;
+		}
+		for ( Generator generator : persister.getEntityMetamodel().getGenerators() ) {
+			if ( generator != null && generator.generatesOnInsert() && generator.generatedOnExecution() ) {
+				return false;
+			}
+		}
+
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		if ( !( operation instanceof JdbcMutationOperation )
+				|| ( (JdbcMutationOperation) operation ).isCallable()
+				|| operation.getTableDetails().getInsertDetails().getCustomSql() != null ) {
+			return false;
+		}
+		final List<JdbcParameterBinder> parameterBinders = ( (JdbcMutationOperation) operation ).getParameterBinders();
+		if ( parameterBinders.isEmpty() ) {
+			return false;
+		}
+		for ( JdbcParameterBinder parameterBinder : parameterBinders ) {
+			if ( !( parameterBinder instanceof ColumnValueParameter ) ) {
+				return false;
+			}
+		}
+
+		// only plain values can be loaded in bulk, or repeated in a values list
+		if ( hasCustomWriteExpression( persister.getIdentifierMapping() ) ) {
+			return false;
+		}
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			if ( hasCustomWriteExpression( attributeMappings.get( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasCustomWriteExpression(ModelPart modelPart) {
+		final boolean[] found = new boolean[1];
+		modelPart.forEachSelectable( (index, selectable) -> {
+			final String writeExpression = selectable.getCustomWriteExpression();
+			if ( writeExpression != null && !"?".equals( writeExpression ) ) {
+				found[0] = true;
+			}
+		} );
+		return found[0];
+	}
+
+	@Override
+	public void bulkInsert(
+			List<?> entities,
+			Object[] ids,
+			List<Object[]> values,
+			BulkLoadSupport bulkLoadSupport,
+			SharedSessionContractImplementor session) {
+		if ( !isBulkInsertSupported( bulkLoadSupport ) ) {
+			InsertCoordinator.super.bulkInsert( entities, ids, values, bulkLoadSupport, session );
+			return;
+		}
+
+		final JdbcMutationOperation operation = (JdbcMutationOperation) staticInsertGroup.getSingleOperation();
+		final EntityTableMapping tableDetails = (EntityTableMapping) operation.getTableDetails();
+		final String[] columnNames = getColumnNames( operation );
+		final JdbcMapping[] jdbcMappings = getJdbcMappings( operation );
+		final List<Object[]> rows = decomposeRows( entities, ids, values, tableDetails, columnNames, session );
+
+		final long rowCount = bulkLoadSupport.load(
+				tableDetails.getTableName(),
+				columnNames,
+				jdbcMappings,
+				rows,
+				session
+		);
+		if ( rowCount != ids.length ) {
+			throw new HibernateException( "Bulk load into table '" + tableDetails.getTableName()
+					+ "' inserted " + rowCount + " rows, but " + ids.length + " were expected" );
+		}
+	}
+
+	@Override
+	public Object[] multiRowInsert(
+			List<?> entities,
+			Object @Nullable [] ids,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		if ( !isMultiRowInsertSupported() ) {
+			return InsertCoordinator.super.multiRowInsert( entities, ids, values, session );
+		}
+
+		final JdbcMutationOperation operation = (JdbcMutationOperation) staticInsertGroup.getSingleOperation();
+		final EntityTableMapping tableDetails = (EntityTableMapping) operation.getTableDetails();
+		final String[] columnNames = getColumnNames( operation );
+		final JdbcMapping[] jdbcMappings = getJdbcMappings( operation );
+		final List<Object[]> rows = decomposeRows( entities, ids, values, tableDetails, columnNames, session );
+
+		final Dialect dialect = factory().getJdbcServices().getDialect();
+		final Integer jdbcBatchSize = session.getJdbcBatchSize();
+		int maxRowCount = jdbcBatchSize == null || jdbcBatchSize < 1
+				? MULTI_ROW_INSERT_ROW_LIMIT
+				: Math.min( jdbcBatchSize, MULTI_ROW_INSERT_ROW_LIMIT );
+		maxRowCount = Math.min( maxRowCount, dialect.getMultiRowInsertParameterCountLimit() / columnNames.length );
+		maxRowCount = Math.max( maxRowCount, 1 );
+
+		final Object[] result = ids == null ? new Object[entities.size()] : ids;
+		int position = 0;
+		while ( position < rows.size() ) {
+			// use a few distinct row counts, so that the statements can be cached
+			final int remaining = rows.size() - position;
+			final int rowCount = remaining >= maxRowCount ? maxRowCount : Integer.highestOneBit( remaining );
+			final String sql = multiRowInsertSql.computeIfAbsent(
+					rowCount,
+					count -> renderMultiRowInsert( tableDetails.getTableName(), columnNames, count )
+			);
+			executeMultiRowInsert( sql, rows, position, rowCount, jdbcMappings, ids == null ? result : null, session );
+			position += rowCount;
+		}
+		return result;
+	}
+
+	private static String renderMultiRowInsert(String tableName, String[] columnNames, int rowCount) {
+		final StringBuilder sql = new StringBuilder( "insert into " ).append( tableName ).append( " (" );
+		final StringBuilder row = new StringBuilder( "(" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+				row.append( ',' );
+			}
+			sql.append( columnNames[i] );
+			row.append( '?' );
+		}
+		sql.append( ") values " );
+		row.append( ')' );
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( row );
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Execute a multi-row insert of the given rows, and read the generated
+	 * identifiers into {@code generatedIds}, unless it is {@code null}.
+	 */
+	private void executeMultiRowInsert(
+			String sql,
+			List<Object[]> rows,
+			int position,
+			int rowCount,
+			JdbcMapping[] jdbcMappings,
+			Object @Nullable [] generatedIds,
+			SharedSessionContractImplementor session) {
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+		final BasicEntityIdentifierMapping identifierMapping =
+				(BasicEntityIdentifierMapping) entityPersister().getIdentifierMapping();
+
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+		final MutationStatementPreparer statementPreparer = jdbcCoordinator.getMutationStatementPreparer();
+		final PreparedStatement statement;
+		if ( generatedIds == null ) {
+			statement = statementPreparer.prepareStatement( sql, false );
+		}
+		else {
+			final Dialect dialect = jdbcServices.getDialect();
+			final String columnName = identifierMapping.getSelectionExpression();
+			statement = statementPreparer.prepareStatement(
+					sql,
+					new String[] { dialect.unquoteGetGeneratedKeys() ? unquote( columnName, dialect ) : columnName }
+			);
+		}
+		try {
+			int parameterPosition = 1;
+			for ( int i = position; i < position + rowCount; i++ ) {
+				final Object[] row = rows.get( i );
+				for ( int j = 0; j < row.length; j++ ) {
+					//noinspection unchecked
+					final ValueBinder<Object> binder = (ValueBinder<Object>) jdbcMappings[j].getJdbcValueBinder();
+					binder.bind( statement, row[j], parameterPosition++, session );
+				}
+			}
+
+			final int insertedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( insertedRowCount != rowCount ) {
+				throw new HibernateException( "Multi-row insert into table '"
+						+ entityPersister().getTableName() + "' inserted " + insertedRowCount
+						+ " rows, but " + rowCount + " were expected" );
+			}
+
+			if ( generatedIds != null ) {
+				final ResultSet resultSet = statement.getGeneratedKeys();
+				try {
+					final JdbcMapping jdbcMapping = identifierMapping.getJdbcMapping();
+					for ( int i = position; i < position + rowCount; i++ ) {
+						if ( !resultSet.next() ) {
+							throw new HibernateException( "Multi-row insert into table '"
+									+ entityPersister().getTableName() + "' returned fewer generated keys than rows" );
+						}
+						generatedIds[i] = jdbcMapping.convertToDomainValue(
+								jdbcMapping.getJdbcValueExtractor().extract( resultSet, 1, session )
+						);
+					}
+				}
+				finally {
+					resourceRegistry.release( resultSet, statement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "could not execute multi-row insert", sql );
+		}
+		finally {
+			resourceRegistry.release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static String[] getColumnNames(JdbcMutationOperation operation) {
+		final List<JdbcParameterBinder> parameterBinders = operation.getParameterBinders();
+		final String[] columnNames = new String[parameterBinders.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			columnNames[i] = ( (ColumnValueParameter) parameterBinders.get( i ) ).getColumnReference().getColumnExpression();
+		}
+		return columnNames;
+	}
+
+	private static JdbcMapping[] getJdbcMappings(JdbcMutationOperation operation) {
+		final List<JdbcParameterBinder> parameterBinders = operation.getParameterBinders();
+		final JdbcMapping[] jdbcMappings = new JdbcMapping[parameterBinders.size()];
+		for ( int i = 0; i < jdbcMappings.length; i++ ) {
+			jdbcMappings[i] = ( (ColumnValueParameter) parameterBinders.get( i ) ).getJdbcMapping();
+		}
+		return jdbcMappings;
+	}
+
+	/**
+	 * Break down the values of the given entities into rows of JDBC values,
+	 * in the order of the given columns.
+	 *
+	 * @param ids the identifiers, or {@code null} if they're generated by the insert
+	 */
+	private List<Object[]> decomposeRows(
+			List<?> entities,
+			Object @Nullable [] ids,
+			List<Object[]> values,
+			EntityTableMapping tableDetails,
+			String[] columnNames,
+			SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final boolean[] insertability = entityPersister().getPropertyInsertability();
+		final int[] attributeIndexes = tableDetails.getAttributeIndexes();
+		final RowValueBindings rowValueBindings = new RowValueBindings( columnNames );
+		final List<Object[]> rows = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object[] entityValues = values.get( i );
+			preInsertInMemoryValueGeneration( entityValues, entities.get( i ), session );
+			for ( int attributeIndex : attributeIndexes ) {
+				if ( insertability[attributeIndex] ) {
+					decomposeAttribute(
+							entityValues[attributeIndex],
+							session,
+							rowValueBindings,
+							attributeMappings.get( attributeIndex )
+					);
+				}
+			}
+			if ( ids != null ) {
+				breakDownJdbcValue( ids[i], session, rowValueBindings, tableDetails );
+			}
+			rows.add( rowValueBindings.nextRow() );
+		}
+		return rows;
+	}
+
+	/**
+	 * Collects the values of a single row, in the order of the columns
+	 * of the insert operation, for a {@link BulkLoadSupport} or a
+	 * multi-row insert.
+	 */
+	private static class RowValueBindings implements JdbcValueBindings {
+		private final Map<String, Integer> columnPositions;
+		private Object[] row;
+
+		private RowValueBindings(String[] columnNames) {
+			columnPositions = new HashMap<>( columnNames.length );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				columnPositions.put( columnNames[i], i );
+			}
+			row = new Object[columnNames.length];
+		}
+
+		private Object[] nextRow() {
+			final Object[] result = row;
+			row = new Object[result.length];
+			return result;
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			final Integer position = columnPositions.get( columnName );
+			if ( position != null ) {
+				row[position] = value;
+			}
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
 	protected GeneratedValues doDynamicInserts(
 			Object id,
 			Object[] values,
@@ -950,7 +950,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, true );
+		final MutationExecutor mutationExecutor = dynamicUpdateExecutor( session, dynamicUpdateGroup );
 
 		decomposeForUpdate(
 				id,
@@ -1000,6 +1000,23 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 				.createExecutor( resolveBatchKeyAccess( dynamicUpdate, session ), group, session );
 	}
 
+	private MutationExecutor dynamicUpdateExecutor(SharedSessionContractImplementor session, MutationOperationGroup group) {
+		if ( batchKey != null
+				&& factory().getSessionFactoryOptions().isSetBasedUpdatesEnabled()
+				&& group.getNumberOfOperations() == 1
+				&& group.getSingleOperation() instanceof JdbcMutationOperation
+				&& !entityPersister().optimisticLockStyle().isAllOrDirty()
+				&& session.getTransactionCoordinator() != null
+				&& session.getTransactionCoordinator().isTransactionActive() ) {
+			// updates assigning the same columns share a batch,
+			// which may then be executed as a single statement
+			final String sql = ( (JdbcMutationOperation) group.getSingleOperation() ).getSqlString();
+			final BatchKey dynamicBatchKey = new BasicBatchKey( entityPersister().getEntityName() + "#UPDATE#" + sql, null );
+			return mutationExecutorService.createExecutor( () -> dynamicBatchKey, group, session );
+		}
+		return executor( session, group, true );
+	}
+
 	private MutationExecutor updateVersionExecutor(SharedSessionContractImplementor session, MutationOperationGroup group, boolean dynamicUpdate) {
 		return mutationExecutorService
 				.createExecutor( resolveUpdateVersionBatchKeyAccess( dynamicUpdate, session ), group, session );
@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -138,6 +139,10 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 * <p>
 	 * The client should call {@link Stream#close()} after processing the
 	 * stream so that resources are freed as soon as possible.
+	 * <p>
+	 * Entities returned by the stream remain associated with the session
+	 * unless the hint {@link org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS}
+	 * is set.
 	 *
 	 * @return The results as a {@link Stream}
 	 *
@@ -166,6 +171,27 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a pull-based
+	 * {@link Flow.Publisher}. The query is executed when the subscriber
+	 * first requests results, and rows are read from the JDBC result set
+	 * as they are requested.
+	 * <p>
+	 * Results are emitted on the thread which calls
+	 * {@link Flow.Subscription#request}, and so the subscriber must request
+	 * results from the thread which owns the session.
+	 * <p>
+	 * Combine with {@link org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS}
+	 * and {@link #setFetchSize(int)} to process a large result set in
+	 * constant memory.
+	 *
+	 * @return The results as a {@link Flow.Publisher}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	Flow.Publisher<R> getResultPublisher();
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which detaches the entities of
+ * each result from the persistence context once the iterator advances
+ * past the result, so that iterating a large result set does not fill
+ * up the persistence context.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_STREAMED_RESULTS
+ *
+ * @since 6.5
+ */
+@Incubating
+public class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SharedSessionContractImplementor session;
+	private Object previous;
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SharedSessionContractImplementor session) {
+		super( scrollableResults );
+		this.session = session;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( previous != null ) {
+			detach( previous );
+			previous = null;
+		}
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T result = super.next();
+		previous = result;
+		return result;
+	}
+
+	private void detach(Object result) {
+		if ( result instanceof Object[] ) {
+			for ( Object element : (Object[]) result ) {
+				detachIfManaged( element );
+			}
+		}
+		else {
+			detachIfManaged( result );
+		}
+	}
+
+	private void detachIfManaged(Object object) {
+		if ( object != null && !session.isClosed() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			if ( persistenceContext.isEntryFor( object ) || persistenceContext.containsProxy( object ) ) {
+				session.asSessionImplementor().evict( object );
+			}
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads and writes the set of HQL queries held by a
+ * {@link QueryInterpretationCache}, so that the cache may be
+ * warmed when the application is restarted.
+ * <p>
+ * The snapshot is a UTF-8 text file with one query per line. Each
+ * line has the name of the expected result type, which may be empty,
+ * followed by a tab and the query string. Backslashes, tabs and line
+ * breaks in the query string are escaped.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE
+ */
+public final class HqlInterpretationSnapshot {
+	private static final String HEADER = "# Hibernate HQL interpretation cache snapshot";
+
+	private HqlInterpretationSnapshot() {
+	}
+
+	/**
+	 * A query recorded in a snapshot.
+	 */
+	public static final class Entry {
+		private final String queryString;
+		private final String expectedResultTypeName;
+
+		Entry(String queryString, String expectedResultTypeName) {
+			this.queryString = queryString;
+			this.expectedResultTypeName = expectedResultTypeName;
+		}
+
+		public String getQueryString() {
+			return queryString;
+		}
+
+		/**
+		 * The name of the expected result type, or null if there was none.
+		 */
+		public String getExpectedResultTypeName() {
+			return expectedResultTypeName;
+		}
+	}
+
+	/**
+	 * Read the queries recorded in the given snapshot file.
+	 */
+	public static List<Entry> read(Path file) throws IOException {
+		final List<Entry> entries = new ArrayList<>();
+		try ( BufferedReader reader = Files.newBufferedReader( file, UTF_8 ) ) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( line.isEmpty() || line.startsWith( "#" ) ) {
+					continue;
+				}
+				final int tab = line.indexOf( '\t' );
+				if ( tab < 0 ) {
+					throw new IOException( "Malformed HQL interpretation cache snapshot: " + file );
+				}
+				entries.add( new Entry(
+						unescape( line.substring( tab + 1 ) ),
+						tab == 0 ? null : line.substring( 0, tab )
+				) );
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Write the queries currently held by the given cache to the given
+	 * snapshot file, replacing any existing snapshot.
+	 *
+	 * @return the number of queries written
+	 */
+	public static int write(QueryInterpretationCache cache, Path file) throws IOException {
+		final Path parent = file.toAbsolutePath().getParent();
+		if ( parent != null ) {
+			Files.createDirectories( parent );
+		}
+		// write to a temporary file first, so that a crash never
+		// leaves a truncated snapshot behind
+		final Path temporary = Files.createTempFile( parent, "hql-snapshot", ".tmp" );
+		try {
+			final int[] count = new int[1];
+			try ( BufferedWriter writer = Files.newBufferedWriter( temporary, UTF_8 ) ) {
+				writer.write( HEADER );
+				writer.newLine();
+				final IOException[] failure = new IOException[1];
+				cache.visitHqlInterpretationKeys( (queryString, expectedResultType) -> {
+					if ( failure[0] == null ) {
+						try {
+							if ( expectedResultType != null ) {
+								writer.write( expectedResultType.getName() );
+							}
+							writer.write( '\t' );
+							writer.write( escape( queryString ) );
+							writer.newLine();
+							count[0]++;
+						}
+						catch (IOException e) {
+							failure[0] = e;
+						}
+					}
+				} );
+				if ( failure[0] != null ) {
+					throw failure[0];
+				}
+			}
+			Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			return count[0];
+		}
+		finally {
+			Files.deleteIfExists( temporary );
+		}
+	}
+
+	static String escape(String queryString) {
+		final StringBuilder result = new StringBuilder( queryString.length() );
+		for ( int i = 0; i < queryString.length(); i++ ) {
+			final char c = queryString.charAt( i );
+			switch ( c ) {
+				case '\\':
+					result.append( "\\\\" );
+					break;
+				case '\t':
+					result.append( "\\t" );
+					break;
+				case '\n':
+					result.append( "\\n" );
+					break;
+				case '\r':
+					result.append( "\\r" );
+					break;
+				default:
+					result.append( c );
+			}
+		}
+		return result.toString();
+	}
+
+	static String unescape(String escaped) {
+		final StringBuilder result = new StringBuilder( escaped.length() );
+		for ( int i = 0; i < escaped.length(); i++ ) {
+			final char c = escaped.charAt( i );
+			if ( c == '\\' && i + 1 < escaped.length() ) {
+				final char next = escaped.charAt( ++i );
+				switch ( next ) {
+					case 't':
+						result.append( '\t' );
+						break;
+					case 'n':
+						result.append( '\n' );
+						break;
+					case 'r':
+						result.append( '\r' );
+						break;
+					default:
+						result.append( next );
+				}
+			}
+			else {
+				result.append( c );
+			}
+		}
+		return result.toString();
+	}
+}
@@ -6,8 +6,13 @@
  */
 package org.hibernate.query.internal;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -18,6 +23,7 @@ import org.hibernate.boot.query.NamedNativeQueryDefinition;
 import org.hibernate.boot.query.NamedProcedureCallDefinition;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.sqm.EntityTypeException;
 import org.hibernate.query.NamedQueryValidationException;
@@ -27,7 +33,6 @@ import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.UnknownEntityException;
 import org.hibernate.query.sqm.UnknownPathException;
@@ -35,6 +40,7 @@ import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_STARTUP_CHECKING_PARALLELISM;
 import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
 
 /**
@@ -48,6 +54,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private int checkParallelism = 1;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento> sqlMementoMap,
@@ -180,6 +188,12 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		checkParallelism = ConfigurationHelper.getInt(
+				QUERY_STARTUP_CHECKING_PARALLELISM,
+				sessionFactory.getProperties(),
+				1
+		);
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -235,31 +249,17 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
-
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						s -> queryEngine.getHqlTranslator().translate( queryString, null )
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		final int parallelism = Math.min( sqmMementoMap.size(), checkParallelism );
+		if ( parallelism > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, parallelism, errors );
+		}
+		else {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
 			}
 		}
 
@@ -301,6 +301,70 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		return errors;
 	}
 
+	/**
+	 * Interpreting HQL is CPU-bound and the interpretation cache is thread-safe,
+	 * so with many named queries it's worth spreading the work across the cores,
+	 * when enabled by {@value org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECKING_PARALLELISM}.
+	 * The interpretations end up in the cache, so the first execution of each
+	 * named query does not need to repeat the work.
+	 */
+	private void checkNamedHqlQueriesInParallel(
+			QueryEngine queryEngine,
+			int parallelism,
+			Map<String, HibernateException> errors) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				parallelism,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( "hibernate-named-query-check-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>( sqmMementoMap.size() );
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				tasks.add( pool.submit( () -> checkNamedHqlQuery( hqlMemento, queryEngine, errors ) ) );
+			}
+			for ( ForkJoinTask<?> task : tasks ) {
+				// rethrows any unexpected exception
+				task.join();
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static void checkNamedHqlQuery(
+			NamedSqmQueryMemento hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					s -> queryEngine.getHqlTranslator().translate( queryString, null )
+			);
+		}
+		catch ( QueryException e ) {
+			errors.put( registrationName, e );
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+		}
+		catch ( EntityTypeException e ) {
+			errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
@@ -16,6 +16,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
@@ -202,7 +203,22 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final Object implementation = properties.get( AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION );
+			if ( implementation instanceof QueryInterpretationCache ) {
+				return (QueryInterpretationCache) implementation;
+			}
+			else if ( implementation == null || "lirs".equalsIgnoreCase( implementation.toString().trim() ) ) {
+				return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			}
+			else if ( "tinylfu".equalsIgnoreCase( implementation.toString().trim() ) ) {
+				return new QueryInterpretationCacheTinyLfuImpl( size, statisticsSupplier );
+			}
+			else {
+				throw new ConfigurationException(
+						"Unrecognized value for '" + AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION
+								+ "' (should be 'lirs' or 'tinylfu'): " + implementation
+				);
+			}
 		}
 		else {
 			// disabled
@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryPlan;
+import org.hibernate.query.sql.spi.ParameterInterpretation;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.query.internal.AbstractQueryInterpretationCache.HqlInterpretationCacheKey.queryString;
+
+/**
+ * A {@link QueryInterpretationCache} backed by {@link TinyLfuCache}s, with
+ * lock-free reads and frequency-based admission, which holds up better than
+ * {@link QueryInterpretationCacheStandardImpl} under heavy concurrency or
+ * when the number of distinct queries exceeds the capacity of the cache.
+ * <p>
+ * The caches are bounded by weight rather than by the number of entries.
+ * Each interpretation weighs one unit per started {@value #WEIGHT_UNIT}
+ * characters of the query string, a cheap proxy for the size of the
+ * syntax trees retained by the interpretation. Typical queries thus
+ * weigh a single unit, and the capacity of the cache is effectively the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+ * configured maximum number} of entries.
+ * <p>
+ * Evictions are reported to the {@link StatisticsImplementor}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+ */
+public class QueryInterpretationCacheTinyLfuImpl extends AbstractQueryInterpretationCache {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	static final int WEIGHT_UNIT = 256;
+
+	private final TinyLfuCache<Key, QueryPlan> queryPlanCache;
+	private final TinyLfuCache<Object, HqlInterpretation> hqlInterpretationCache;
+	private final TinyLfuCache<String, ParameterInterpretation> nativeQueryParamCache;
+
+	public QueryInterpretationCacheTinyLfuImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		super( statisticsSupplier );
+		log.debugf( "Starting QueryInterpretationCache(%s) with W-TinyLFU eviction", maxQueryPlanCount );
+
+		this.queryPlanCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				(key, plan) -> weigh( key.getQueryString() ),
+				(key, plan) -> evicted( key.getQueryString() )
+		);
+		this.hqlInterpretationCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				(key, interpretation) -> weigh( queryString( key ) ),
+				(key, interpretation) -> evicted( queryString( key ) )
+		);
+		this.nativeQueryParamCache = new TinyLfuCache<>(
+				maxQueryPlanCount,
+				(queryString, interpretation) -> weigh( queryString ),
+				(queryString, interpretation) -> evicted( queryString )
+		);
+	}
+
+	private static int weigh(String queryString) {
+		return 1 + ( queryString.length() - 1 ) / WEIGHT_UNIT;
+	}
+
+	private void evicted(String queryString) {
+		log.tracef( "Evicted query interpretation from cache: %s", queryString );
+		final StatisticsImplementor statistics = getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( queryString );
+		}
+	}
+
+	@Override
+	public int getNumberOfCachedHqlInterpretations() {
+		return hqlInterpretationCache.size();
+	}
+
+	@Override
+	public int getNumberOfCachedQueryPlans() {
+		return queryPlanCache.size();
+	}
+
+	@Override
+	protected QueryPlan getCachedQueryPlan(Key key) {
+		return queryPlanCache.get( key );
+	}
+
+	@Override
+	protected void cacheQueryPlan(Key key, QueryPlan plan) {
+		queryPlanCache.put( key, plan );
+	}
+
+	@Override
+	protected HqlInterpretation getCachedHqlInterpretation(Object key) {
+		return hqlInterpretationCache.get( key );
+	}
+
+	@Override
+	protected void cacheHqlInterpretation(Object key, HqlInterpretation interpretation) {
+		hqlInterpretationCache.put( key, interpretation );
+	}
+
+	@Override
+	protected ParameterInterpretation computeNativeQueryParametersIfAbsent(
+			String queryString,
+			Function<String, ParameterInterpretation> creator) {
+		return nativeQueryParamCache.computeIfAbsent( queryString, creator );
+	}
+
+	@Override
+	public void visitHqlInterpretationKeys(BiConsumer<String, Class<?>> action) {
+		hqlInterpretationCache.forEachKey( key -> HqlInterpretationCacheKey.visit( key, action ) );
+	}
+
+	@Override
+	public void close() {
+		hqlInterpretationCache.clear();
+		nativeQueryParamCache.clear();
+		queryPlanCache.clear();
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.hibernate.Incubating;
+
+/**
+ * A pull-based {@link Flow.Publisher} over the {@link Stream} of results
+ * of a query. The query is executed when the subscriber first
+ * {@linkplain Flow.Subscription#request requests} results, and rows are
+ * read from the JDBC result set only as they are requested. Every
+ * subscriber executes the query afresh.
+ * <p>
+ * Results are emitted synchronously, on the thread calling
+ * {@link Flow.Subscription#request}. Since a session is not thread-safe,
+ * the subscriber must request results from the thread which owns the
+ * session.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultPublisher
+ *
+ * @since 6.5
+ */
+@Incubating
+public class ResultStreamPublisher<R> implements Flow.Publisher<R> {
+	private final Supplier<Stream<R>> streamSupplier;
+
+	public ResultStreamPublisher(Supplier<Stream<R>> streamSupplier) {
+		this.streamSupplier = streamSupplier;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "Subscriber may not be null" );
+		}
+		subscriber.onSubscribe( new ResultStreamSubscription<>( subscriber, streamSupplier ) );
+	}
+
+	private static class ResultStreamSubscription<R> implements Flow.Subscription {
+		private final Flow.Subscriber<? super R> subscriber;
+		private final Supplier<Stream<R>> streamSupplier;
+		// guards the state below, reentrant since request() may be called from onNext()
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private Stream<R> stream;
+		private Iterator<R> iterator;
+		private long demand;
+		private boolean emitting;
+		private boolean done;
+
+		private ResultStreamSubscription(Flow.Subscriber<? super R> subscriber, Supplier<Stream<R>> streamSupplier) {
+			this.subscriber = subscriber;
+			this.streamSupplier = streamSupplier;
+		}
+
+		@Override
+		public void request(long n) {
+			lock.lock();
+			try {
+				if ( done ) {
+					return;
+				}
+				if ( n <= 0 ) {
+					terminate();
+					subscriber.onError( new IllegalArgumentException( "Number of requested results must be positive: " + n ) );
+					return;
+				}
+				demand += n;
+				if ( demand < 0 ) {
+					// overflow, treat as unbounded
+					demand = Long.MAX_VALUE;
+				}
+				// request() may be called from onNext(), in which case
+				// the outer call takes care of emitting the results
+				if ( !emitting ) {
+					emit();
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void emit() {
+			emitting = true;
+			try {
+				if ( iterator == null ) {
+					stream = streamSupplier.get();
+					iterator = stream.iterator();
+				}
+				while ( demand > 0 && !done ) {
+					if ( iterator.hasNext() ) {
+						demand--;
+						subscriber.onNext( iterator.next() );
+					}
+					else {
+						terminate();
+						subscriber.onComplete();
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				if ( !done ) {
+					terminate();
+					subscriber.onError( e );
+				}
+			}
+			finally {
+				emitting = false;
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				terminate();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void terminate() {
+			done = true;
+			if ( stream != null ) {
+				stream.close();
+				stream = null;
+				iterator = null;
+			}
+		}
+	}
+}
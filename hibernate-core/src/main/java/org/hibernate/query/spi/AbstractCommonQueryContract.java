@@ -67,6 +67,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
@@ -304,6 +305,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_QUERY_PLAN_CACHEABLE:
 					applyQueryPlanCacheableHint( getBoolean( value ) );
 					return true;
+				case HINT_DETACH_STREAMED_RESULTS:
+					applyDetachStreamedResultsHint( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					applyCacheableHint( getBoolean( value ) );
 					return true;
@@ -352,6 +356,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setQueryPlanCachingEnabled( isCacheable );
 	}
 
+	protected void applyDetachStreamedResultsHint(boolean detach) {
+		QueryLogging.QUERY_LOGGER.debug( "Detach streamed results hint was specified for non-selection query; ignoring" );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
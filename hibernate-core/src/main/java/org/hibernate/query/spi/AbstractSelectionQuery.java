@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -55,6 +56,8 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
+import org.hibernate.query.internal.ResultStreamPublisher;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -83,6 +86,7 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_STREAMED_RESULTS;
 import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
@@ -102,6 +106,7 @@ public abstract class AbstractSelectionQuery<R>
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private Callback callback;
+	private boolean detachStreamedResults;
 
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
@@ -542,11 +547,19 @@ public abstract class AbstractSelectionQuery<R>
 		return stream();
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultPublisher() {
+		return new ResultStreamPublisher<>( this::getResultStream );
+	}
+
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		// a stateless session has no persistence context to detach from
+		final ScrollableResultsIterator iterator = detachStreamedResults && getSession().isSessionImplementor()
+				? new DetachingScrollableResultsIterator<>( scrollableResults, getSession() )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -753,6 +766,11 @@ public abstract class AbstractSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	protected void applyDetachStreamedResultsHint(boolean detach) {
+		detachStreamedResults = detach;
+	}
+
 	protected void collectHints(Map<String, Object> hints) {
 		super.collectHints( hints );
 
@@ -762,6 +780,10 @@ public abstract class AbstractSelectionQuery<R>
 
 		putIfNotNull( hints, HINT_FETCH_SIZE, getFetchSize() );
 
+		if ( detachStreamedResults ) {
+			hints.put( HINT_DETACH_STREAMED_RESULTS, true );
+		}
+
 		if ( isCacheable() ) {
 			hints.put( HINT_CACHEABLE, true );
 			putIfNotNull( hints, HINT_CACHE_REGION, getCacheRegion() );
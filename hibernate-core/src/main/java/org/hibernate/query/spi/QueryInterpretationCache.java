@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -51,6 +52,15 @@ public interface QueryInterpretationCache {
 
 	ParameterInterpretation resolveNativeQueryParameters(String queryString, Function<String, ParameterInterpretation> creator);
 
+	/**
+	 * Visit the query string and expected result type, which may be null,
+	 * of every cached {@linkplain HqlInterpretation HQL interpretation}.
+	 *
+	 * @since 6.5
+	 */
+	default void visitHqlInterpretationKeys(BiConsumer<String, Class<?>> action) {
+	}
+
 	boolean isEnabled();
 
 	/**
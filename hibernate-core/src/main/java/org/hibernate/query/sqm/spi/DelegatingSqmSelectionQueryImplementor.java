@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -114,6 +115,11 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return getDelegate().stream();
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultPublisher() {
+		return getDelegate().getResultPublisher();
+	}
+
 	@Override
 	public R uniqueResult() {
 		return getDelegate().uniqueResult();
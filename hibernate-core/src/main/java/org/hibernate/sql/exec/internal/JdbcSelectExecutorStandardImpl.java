@@ -27,6 +27,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.caching.internal.QueryCacheHitEntityLoader;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -350,6 +351,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			else {
 				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), session.getLoadQueryInfluencers(), factory );
 			}
+			if ( factory.getSessionFactoryOptions().isQueryCacheBulkResolutionEnabled() ) {
+				QueryCacheHitEntityLoader.loadSelectFetchedEntities( cachedResults, jdbcValuesMapping, session );
+			}
 			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
 		}
 	}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Fetch;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.graph.entity.internal.EntityFetchSelectImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+
+import static org.hibernate.sql.exec.SqlExecLogger.SQL_EXEC_LOGGER;
+
+/**
+ * Loads the entities referenced by the select-fetched associations of a
+ * result read from the query cache, before its rows are processed.
+ * <p>
+ * Otherwise, each of these entities is loaded by its own call to
+ * {@link SharedSessionContractImplementor#internalLoad}, as the row
+ * referencing it is processed. Instead, the identifiers of all rows are
+ * collected up front, and the entities of each type are loaded by a single
+ * {@linkplain EntityPersister#multiLoad multi-load}, which checks the
+ * second-level cache, and then selects the remaining entities all at once.
+ * Row processing then finds them in the persistence context.
+ * <p>
+ * Only associations whose key is a single basic value are handled here.
+ * Any other association is still loaded as its row is processed.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_QUERY_CACHE_BULK_RESOLUTION
+ */
+public final class QueryCacheHitEntityLoader {
+	private QueryCacheHitEntityLoader() {
+	}
+
+	public static void loadSelectFetchedEntities(
+			List<?> cachedResults,
+			JdbcValuesMapping jdbcValuesMapping,
+			SharedSessionContractImplementor session) {
+		if ( cachedResults.isEmpty() || session.isStatelessSession() ) {
+			return;
+		}
+
+		final List<SelectFetchKey> keys = new ArrayList<>();
+		for ( DomainResult<?> domainResult : jdbcValuesMapping.getDomainResults() ) {
+			if ( domainResult instanceof FetchParent ) {
+				collectSelectFetchKeys( (FetchParent) domainResult, keys );
+			}
+		}
+		if ( keys.isEmpty() ) {
+			return;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, Set<Object>> idsByPersister = new LinkedHashMap<>();
+		// the first element may be the metadata of the cached result
+		final int start = cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+		for ( int i = start; i < cachedResults.size(); i++ ) {
+			final Object[] row = (Object[]) cachedResults.get( i );
+			for ( SelectFetchKey key : keys ) {
+				final Object id = key.extractId( row );
+				if ( id != null && !persistenceContext.containsEntity( new EntityKey( id, key.persister ) ) ) {
+					idsByPersister.computeIfAbsent( key.persister, persister -> new LinkedHashSet<>() ).add( id );
+				}
+			}
+		}
+
+		final MultiIdLoadOptions loadOptions = new CacheHitMultiIdLoadOptions( session );
+		for ( Map.Entry<EntityPersister, Set<Object>> entry : idsByPersister.entrySet() ) {
+			final Set<Object> ids = entry.getValue();
+			// a single entity gains nothing from being loaded early
+			if ( ids.size() > 1 ) {
+				SQL_EXEC_LOGGER.debugf(
+						"Loading %s entities of type `%s` referenced by a cached query result",
+						ids.size(),
+						entry.getKey().getEntityName()
+				);
+				entry.getKey().multiLoad( ids.toArray(), session, loadOptions );
+			}
+		}
+	}
+
+	private static void collectSelectFetchKeys(FetchParent fetchParent, List<SelectFetchKey> keys) {
+		for ( Fetch fetch : fetchParent.getFetches() ) {
+			if ( fetch instanceof EntityFetchSelectImpl ) {
+				final EntityFetchSelectImpl selectFetch = (EntityFetchSelectImpl) fetch;
+				final DomainResult<?> keyResult = selectFetch.getKeyResult();
+				if ( !selectFetch.isSelectByUniqueKey() && keyResult instanceof BasicResult ) {
+					final DomainResultAssembler<?> assembler = ( (BasicResult<?>) keyResult ).getAssembler();
+					if ( assembler instanceof BasicResultAssembler ) {
+						keys.add( new SelectFetchKey(
+								selectFetch.getReferencedMappingType().getEntityPersister(),
+								(BasicResultAssembler<?>) assembler
+						) );
+					}
+				}
+			}
+			else if ( fetch instanceof FetchParent ) {
+				// joined entities and embeddables
+				collectSelectFetchKeys( (FetchParent) fetch, keys );
+			}
+		}
+	}
+
+	private static final class SelectFetchKey {
+		private final EntityPersister persister;
+		private final int valuesArrayPosition;
+		private final BasicValueConverter<?, ?> valueConverter;
+
+		private SelectFetchKey(EntityPersister persister, BasicResultAssembler<?> assembler) {
+			this.persister = persister;
+			this.valuesArrayPosition = assembler.getValuesArrayPosition();
+			this.valueConverter = assembler.getValueConverter();
+		}
+
+		private Object extractId(Object[] row) {
+			final Object value = row[valuesArrayPosition];
+			if ( value == null || valueConverter == null ) {
+				return value;
+			}
+			//noinspection unchecked,rawtypes
+			return ( (BasicValueConverter) valueConverter ).toDomainValue( value );
+		}
+	}
+
+	private static final class CacheHitMultiIdLoadOptions implements MultiIdLoadOptions {
+		private final boolean secondLevelCacheCheckingEnabled;
+
+		private CacheHitMultiIdLoadOptions(SharedSessionContractImplementor session) {
+			this.secondLevelCacheCheckingEnabled = session.getCacheMode().isGetEnabled();
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return secondLevelCacheCheckingEnabled;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+}
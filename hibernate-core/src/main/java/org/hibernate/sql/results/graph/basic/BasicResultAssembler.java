@@ -97,6 +97,14 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the raw value in the JDBC values array of a row
+	 */
+	@Internal
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
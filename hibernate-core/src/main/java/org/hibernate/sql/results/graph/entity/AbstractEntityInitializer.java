@@ -190,7 +190,10 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		for ( int i = 0; i < numberOfAttributeMappings; i++ ) {
 			final AttributeMapping attributeMapping = containerDescriptor.getAttributeMapping( i );
 			final AttributeMetadata attributeMetadata = attributeMapping.getAttributeMetadata();
-			if ( attributeMetadata.isUpdatable() ) {
+			// the snapshot of an immutable value is the value itself,
+			// so when copying in place there's nothing to do for it
+			if ( attributeMetadata.isUpdatable()
+					&& ( source != target || attributeMetadata.getMutabilityPlan().isMutable() ) ) {
 				final int position = attributeMapping.getStateArrayPosition();
 				target[position] = copy( attributeMetadata, source[position] );
 			}
@@ -50,6 +50,14 @@ public class EntityFetchSelectImpl extends AbstractNonJoinedEntityFetch {
 		this.selectByUniqueKey = original.selectByUniqueKey;
 	}
 
+	public DomainResult<?> getKeyResult() {
+		return keyResult;
+	}
+
+	public boolean isSelectByUniqueKey() {
+		return selectByUniqueKey;
+	}
+
 	@Override
 	public FetchTiming getTiming() {
 		return FetchTiming.IMMEDIATE;
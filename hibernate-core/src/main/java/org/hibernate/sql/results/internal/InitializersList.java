@@ -89,6 +89,10 @@ public final class InitializersList {
 		}
 	}
 
+	public boolean isEmpty() {
+		return initializers.length == 0;
+	}
+
 	public boolean hasCollectionInitializers() {
 		return this.hasCollectionInitializers;
 	}
@@ -29,4 +29,10 @@ public class RowTransformerListImpl<T> implements RowTransformer<List<Object>> {
 	public List<Object> transformRow(Object[] row) {
 		return List.of( row );
 	}
+
+	@Override
+	public boolean retainsRow(int rawElementCount) {
+		// List.of() copies the array
+		return false;
+	}
 }
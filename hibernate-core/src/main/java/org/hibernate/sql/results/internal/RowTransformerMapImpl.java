@@ -44,4 +44,9 @@ public class RowTransformerMapImpl implements RowTransformer<Map<String,Object>>
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRow(int rawElementCount) {
+		return false;
+	}
 }
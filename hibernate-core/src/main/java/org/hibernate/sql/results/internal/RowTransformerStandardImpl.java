@@ -38,4 +38,9 @@ public class RowTransformerStandardImpl<T> implements RowTransformer<T> {
 	public T transformRow(Object[] row) {
 		return row.length == 1 ? (T) row[0] : (T) row;
 	}
+
+	@Override
+	public boolean retainsRow(int rawElementCount) {
+		return rawElementCount != 1;
+	}
 }
@@ -33,6 +33,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
+	private final DomainResultAssembler<?>[] resultAssemblersArray;
+	private final boolean hasInitializers;
+	// a single array reused for every row, when the transformer does not retain it
+	private final Object[] reusableRow;
 
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
@@ -44,6 +48,9 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.resultAssemblersArray = resultAssemblers.toArray( new DomainResultAssembler<?>[0] );
+		this.hasInitializers = !initializers.isEmpty();
+		this.reusableRow = rowTransformer.retainsRow( assemblerCount ) ? null : new Object[assemblerCount];
 	}
 
 	@Override
@@ -83,17 +90,25 @@ public class StandardRowReader<T> implements RowReader<T> {
 	@Override
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
-		coordinateInitializers( rowProcessingState );
+		// for scalar results there are no initializers to coordinate
+		if ( hasInitializers ) {
+			coordinateInitializers( rowProcessingState );
+		}
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		final Object[] resultRow = reusableRow == null ? new Object[ assemblerCount ] : reusableRow;
 
+		final boolean debugEnabled = LoadingLogger.LOGGER.isDebugEnabled();
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			final DomainResultAssembler assembler = resultAssemblersArray[i];
+			if ( debugEnabled ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
-		afterRow( rowProcessingState );
+		if ( hasInitializers ) {
+			afterRow( rowProcessingState );
+		}
 
 		return rowTransformer.transformRow( resultRow );
 	}
@@ -30,4 +30,12 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Might the transformed result hold a reference to the given row array?
+	 * If not, the {@link RowReader} may reuse a single array for every row.
+	 */
+	default boolean retainsRow(int rawElementCount) {
+		return true;
+	}
 }
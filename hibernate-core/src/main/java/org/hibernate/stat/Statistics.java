@@ -380,6 +380,18 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of times the size of JDBC batches was adjusted, for some
+	 * batched statement, to approach the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#BATCH_TARGET_LATENCY
+	 * target execution time}.
+	 *
+	 * @since 6.5
+	 */
+	default long getJdbcBatchSizeAdjustmentCount() {
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -395,4 +407,18 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache to make
+	 * room for other plans.
+	 * <p>
+	 * Evictions are only counted by a
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 * query plan cache implementation} which reports them.
+	 *
+	 * @since 6.5
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
 }
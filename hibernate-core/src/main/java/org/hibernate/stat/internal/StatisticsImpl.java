@@ -64,6 +64,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
+	private final LongAdder jdbcBatchSizeAdjustmentCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
@@ -98,6 +99,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -172,6 +174,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		jdbcBatchSizeAdjustmentCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -209,6 +212,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -773,6 +777,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -800,6 +809,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -852,6 +866,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getJdbcBatchSizeAdjustmentCount() {
+		return jdbcBatchSizeAdjustmentCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -882,6 +901,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void jdbcBatchSizeAdjusted(String batchKey, int previousBatchSize, int batchSize) {
+		jdbcBatchSizeAdjustmentCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -946,6 +970,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",batch size adjustments=" + jdbcBatchSizeAdjustmentCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -974,6 +999,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -269,6 +269,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating the size of JDBC batches of the given batch key was adjusted.
+	 *
+	 * @param batchKey The loggable batch key
+	 * @param previousBatchSize The size of the batches executed so far
+	 * @param batchSize The size of subsequent batches
+	 */
+	default void jdbcBatchSizeAdjusted(String batchKey, int previousBatchSize, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache.
+	 *
+	 * @param query The query
+	 */
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.graph.entity.EntityInitializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks {@link EntityHolderMap} against a {@link HashMap}.
+ */
+@DomainModel(annotatedClasses = { EntityHolderMapTest.Book.class, EntityHolderMapTest.Author.class })
+@SessionFactory
+public class EntityHolderMapTest {
+
+	@Test
+	public void testRandomOperations(SessionFactoryScope scope) {
+		final EntityPersister books = scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+		final EntityPersister authors = scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Author.class );
+
+		final EntityHolderMap<Holder> map = new EntityHolderMap<>( 8 );
+		final Map<EntityKey, Holder> expected = new HashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 50_000; i++ ) {
+			final EntityKey key = new EntityKey(
+					(long) random.nextInt( 500 ),
+					random.nextBoolean() ? books : authors
+			);
+			switch ( random.nextInt( 4 ) ) {
+				case 0:
+				case 1:
+					final Holder holder = new Holder( key );
+					assertThat( map.put( key, holder ) ).isSameAs( expected.put( key, holder ) );
+					break;
+				case 2:
+					assertThat( map.remove( key ) ).isSameAs( expected.remove( key ) );
+					break;
+				default:
+					assertThat( map.get( key ) ).isSameAs( expected.get( key ) );
+			}
+			assertThat( map.size() ).isEqualTo( expected.size() );
+		}
+
+		for ( Map.Entry<EntityKey, Holder> entry : expected.entrySet() ) {
+			assertThat( map.get( entry.getKey() ) ).isSameAs( entry.getValue() );
+		}
+		assertThat( new HashSet<>( map.values() ) ).isEqualTo( new HashSet<>( expected.values() ) );
+		assertThat( map.keySet() ).isEqualTo( expected.keySet() );
+		assertThat( map ).isEqualTo( expected );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		assertThat( map.values() ).isEmpty();
+	}
+
+	@Test
+	public void testPutIfAbsent(SessionFactoryScope scope) {
+		final EntityPersister books = scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+		final EntityHolderMap<Holder> map = new EntityHolderMap<>( 0 );
+		final Holder first = new Holder( new EntityKey( 1L, books ) );
+		final Holder second = new Holder( new EntityKey( 1L, books ) );
+		assertThat( map.putIfAbsent( first.getEntityKey(), first ) ).isNull();
+		assertThat( map.putIfAbsent( second.getEntityKey(), second ) ).isSameAs( first );
+		assertThat( map.get( second.getEntityKey() ) ).isSameAs( first );
+		assertThat( map.get( "not a key" ) ).isNull();
+	}
+
+	@Test
+	public void testIteratorFailsFast(SessionFactoryScope scope) {
+		final EntityPersister books = scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+		final EntityHolderMap<Holder> map = new EntityHolderMap<>( 8 );
+		for ( long id = 1; id <= 3; id++ ) {
+			final Holder holder = new Holder( new EntityKey( id, books ) );
+			map.put( holder.getEntityKey(), holder );
+		}
+
+		final Iterator<Holder> values = map.values().iterator();
+		values.next();
+		// replacing the holder of an existing key is not a structural modification
+		final Holder replacement = new Holder( new EntityKey( 1L, books ) );
+		map.put( replacement.getEntityKey(), replacement );
+		values.next();
+		map.remove( replacement.getEntityKey() );
+		assertThrows( ConcurrentModificationException.class, values::next );
+
+		final Iterator<EntityKey> keys = map.keySet().iterator();
+		final Holder added = new Holder( new EntityKey( 4L, books ) );
+		map.put( added.getEntityKey(), added );
+		assertThrows( ConcurrentModificationException.class, keys::next );
+	}
+
+	private static class Holder implements EntityHolder {
+		private final EntityKey key;
+
+		private Holder(EntityKey key) {
+			this.key = key;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return key;
+		}
+
+		@Override
+		public EntityPersister getDescriptor() {
+			return key.getPersister();
+		}
+
+		@Override
+		public Object getEntity() {
+			return null;
+		}
+
+		@Override
+		public Object getProxy() {
+			return null;
+		}
+
+		@Override
+		public EntityInitializer getEntityInitializer() {
+			return null;
+		}
+
+		@Override
+		public void markAsReloaded(JdbcValuesSourceProcessingState processingState) {
+		}
+
+		@Override
+		public boolean isEventuallyInitialized() {
+			return false;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#BATCH_TARGET_LATENCY}, using a clock
+ * which makes every batch appear slower than the target execution time.
+ */
+@DomainModel(annotatedClasses = AdaptiveBatchSizingTest.Event.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "50"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.BUILDER,
+				provider = AdaptiveBatchSizingTest.SlowClockBatchBuilderProvider.class
+		)
+)
+@SessionFactory
+public class AdaptiveBatchSizingTest {
+	private static final int EVENTS = 500;
+	private static final int MAX_BATCH_SIZE = 50;
+	private static final long TARGET_MILLIS = 1;
+	// every batch appears to take ten times the target execution time
+	private static final long BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 * TARGET_MILLIS );
+
+	public static class SlowClockBatchBuilderProvider implements SettingProvider.Provider<BatchBuilder> {
+		@Override
+		public BatchBuilder getSetting() {
+			// the clock is read once before and once after each batch execution
+			final AtomicLong clock = new AtomicLong();
+			return new BatchBuilderImpl(
+					MAX_BATCH_SIZE,
+					null,
+					new AdaptiveBatchSizing( TARGET_MILLIS, () -> clock.getAndAdd( BATCH_NANOS / 2 ) ),
+					false
+			);
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSlowBatchesAreShrunk(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final BatchCounter listener = new BatchCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < EVENTS; i++ ) {
+				session.persist( new Event( i, "event " + i ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		assertThat( statistics.getJdbcBatchSizeAdjustmentCount() ).isGreaterThan( 0 );
+		// every batch takes longer than the target, so fewer rows are sent per batch
+		assertThat( listener.batches.get() ).isGreaterThan( EVENTS / MAX_BATCH_SIZE );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( (long) EVENTS ) );
+	}
+
+	private static class BatchCounter extends BaseSessionEventListener {
+		private final AtomicInteger batches = new AtomicInteger();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			batches.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		Integer id;
+		String name;
+
+		Event() {
+		}
+
+		Event(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
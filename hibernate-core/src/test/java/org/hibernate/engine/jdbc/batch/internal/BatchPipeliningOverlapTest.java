@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the next batch is prepared and bound while the execution of
+ * the previous batch is still pending, when pipelining batches.
+ * <p>
+ * The execution of the first batch is held back until the statement of
+ * the next batch is prepared, which would never happen if preparing the
+ * statement waited for the pending execution.
+ */
+@DomainModel(annotatedClasses = BatchPipeliningOverlapTest.Event.class)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.BUILDER,
+				provider = BatchPipeliningOverlapTest.HeldBackBatchBuilderProvider.class
+		)
+)
+@SessionFactory
+public class BatchPipeliningOverlapTest {
+	private static final int EVENTS = 12;
+	private static final int BATCH_SIZE = 5;
+
+	private static final CountDownLatch nextBatchPrepared = new CountDownLatch( 1 );
+	private static final AtomicBoolean overlapped = new AtomicBoolean();
+
+	public static class HeldBackBatchBuilderProvider implements SettingProvider.Provider<BatchBuilder> {
+		@Override
+		public BatchBuilder getSetting() {
+			return new BatchBuilderImpl( BATCH_SIZE, new HeldBackExecutor(), null, false );
+		}
+	}
+
+	/**
+	 * Holds back the execution of the first batch until the next batch is prepared.
+	 */
+	private static class HeldBackExecutor extends ThreadPoolExecutor {
+		private final AtomicBoolean first = new AtomicBoolean( true );
+
+		HeldBackExecutor() {
+			super(
+					1,
+					1,
+					0,
+					TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(),
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-batch-execution" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+
+		@Override
+		protected void beforeExecute(Thread thread, Runnable runnable) {
+			if ( first.getAndSet( false ) ) {
+				try {
+					overlapped.set( nextBatchPrepared.await( 10, TimeUnit.SECONDS ) );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Event" ).executeUpdate() );
+	}
+
+	@Test
+	public void testNextBatchIsPreparedDuringExecution(SessionFactoryScope scope) {
+		final PrepareCounter listener = new PrepareCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < EVENTS; i++ ) {
+				session.persist( new Event( i ) );
+			}
+			session.getTransaction().commit();
+		}
+
+		assertThat( overlapped ).isTrue();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Event", Long.class ).getSingleResult()
+		).isEqualTo( (long) EVENTS ) );
+	}
+
+	private static class PrepareCounter extends BaseSessionEventListener {
+		private final AtomicInteger prepared = new AtomicInteger();
+
+		@Override
+		public void jdbcPrepareStatementStart() {
+			// the first statement is the insert of the first batch, the second
+			// one the insert of the next batch, bound to the other statement group
+			if ( prepared.incrementAndGet() == 2 ) {
+				nextBatchPrepared.countDown();
+			}
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		Integer id;
+
+		Event() {
+		}
+
+		Event(Integer id) {
+			this.id = id;
+		}
+	}
+}
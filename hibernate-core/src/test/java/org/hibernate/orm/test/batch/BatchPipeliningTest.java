@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#BATCH_PIPELINING}.
+ */
+@DomainModel(annotatedClasses = { BatchPipeliningTest.Author.class, BatchPipeliningTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.BATCH_PIPELINING, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true")
+})
+@SessionFactory
+public class BatchPipeliningTest {
+	private static final int AUTHORS = 23;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStatementsAreExecutedInOrder(SessionFactoryScope scope) {
+		final BatchThreadRecorder recorder = new BatchThreadRecorder();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( recorder ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i * 2, author ) );
+				session.persist( new Book( i * 2 + 1, author ) );
+			}
+			session.getTransaction().commit();
+		}
+		// the listeners of the session are only called by the thread of the session
+		assertThat( recorder.threads ).containsExactly( Thread.currentThread().getName() );
+
+		scope.inTransaction( session -> {
+			for ( Book book : session.createSelectionQuery( "from Book", Book.class ).getResultList() ) {
+				book.title = "book of " + book.author.name;
+			}
+			session.createSelectionQuery( "from Book where author.id < 10", Book.class ).getResultList()
+					.forEach( session::remove );
+			session.createSelectionQuery( "from Author where id < 10", Author.class ).getResultList()
+					.forEach( session::remove );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult() )
+					.isEqualTo( AUTHORS - 10L );
+			assertThat( session.createSelectionQuery( "select count(*) from Book where title = 'book of author 17'", Long.class )
+					.getSingleResult() ).isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void testFailureIsReportedOnFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Author( 12, "existing" ) ) );
+
+		assertThatThrownBy( () -> scope.inTransaction( session -> {
+			// the session doesn't know about the existing row
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				session.persist( new Author( i, "author " + i ) );
+			}
+		} ) ).isInstanceOf( ConstraintViolationException.class );
+
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery( "from Author", Author.class )
+				.getResultList() ).extracting( author -> author.name ).containsExactly( "existing" ) );
+	}
+
+	private static class BatchThreadRecorder extends BaseSessionEventListener {
+		private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			threads.add( Thread.currentThread().getName() );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
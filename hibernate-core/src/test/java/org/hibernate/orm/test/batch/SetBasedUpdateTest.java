@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@value AvailableSettings#BATCH_SET_BASED_UPDATES}.
+ */
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@DomainModel(annotatedClasses = {
+		SetBasedUpdateTest.Task.class,
+		SetBasedUpdateTest.Note.class
+})
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.BATCH_SET_BASED_UPDATES, value = "true"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class SetBasedUpdateTest {
+	private static final int ROWS = 25;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Task( i, "task " + i ) );
+				session.persist( new Note( i, "note " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Task" ).executeUpdate();
+			session.createMutationQuery( "delete Note" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testDynamicUpdatesAreMerged(SessionFactoryScope scope) {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		connectionProvider.clear();
+		scope.inTransaction( session -> {
+			for ( Task task : session.createSelectionQuery( "from Task", Task.class ).getResultList() ) {
+				task.status = "done";
+			}
+		} );
+
+		// 10 + 10 + 5 rows
+		assertThat( setBasedStatements( connectionProvider ) ).hasSize( 3 );
+		assertThat( connectionProvider.getPreparedSQLStatements() )
+				.noneMatch( sql -> sql.startsWith( "update" ) && !isSetBased( sql ) );
+
+		scope.inTransaction( session -> {
+			for ( Task task : session.createSelectionQuery( "from Task", Task.class ).getResultList() ) {
+				assertThat( task.status ).isEqualTo( "done" );
+				assertThat( task.title ).isEqualTo( "task " + task.id );
+				assertThat( task.version ).isEqualTo( 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testStaticUpdatesAreMerged(SessionFactoryScope scope) {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		connectionProvider.clear();
+		scope.inTransaction( session -> {
+			for ( Note note : session.createSelectionQuery( "from Note", Note.class ).getResultList() ) {
+				note.text = note.id % 2 == 0 ? null : note.text + "!";
+			}
+		} );
+
+		assertThat( setBasedStatements( connectionProvider ) ).hasSize( 3 );
+
+		scope.inTransaction( session -> {
+			for ( Note note : session.createSelectionQuery( "from Note", Note.class ).getResultList() ) {
+				assertThat( note.text ).isEqualTo( note.id % 2 == 0 ? null : "note " + note.id + "!" );
+			}
+		} );
+	}
+
+	@Test
+	public void testStaleRowIsDetected(SessionFactoryScope scope) {
+		assertThrows( OptimisticLockException.class, () -> scope.inTransaction( session -> {
+			final List<Task> tasks = session.createSelectionQuery( "from Task", Task.class ).getResultList();
+			scope.inTransaction( other -> other.createMutationQuery( "update versioned Task set status = 'stale' where id = 3" )
+					.executeUpdate() );
+			for ( Task task : tasks ) {
+				task.status = "done";
+			}
+		} ) );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Task where status = 'done'", Long.class )
+						.getSingleResult()
+		).isEqualTo( 0L ) );
+	}
+
+	private static List<String> setBasedStatements(PreparedStatementSpyConnectionProvider connectionProvider) {
+		return connectionProvider.getPreparedSQLStatements()
+				.stream()
+				.filter( SetBasedUpdateTest::isSetBased )
+				.collect( Collectors.toList() );
+	}
+
+	private static boolean isSetBased(String sql) {
+		// a merge, or an update from a values list
+		return sql.startsWith( "merge into" ) || sql.startsWith( "update" ) && sql.contains( " from (values " );
+	}
+
+	private static PreparedStatementSpyConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@Entity(name = "Task")
+	@DynamicUpdate
+	public static class Task {
+		@Id
+		Integer id;
+		String title;
+		String status;
+		@Version
+		Integer version;
+
+		Task() {
+		}
+
+		Task(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		Integer id;
+		String text;
+
+		Note() {
+		}
+
+		Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
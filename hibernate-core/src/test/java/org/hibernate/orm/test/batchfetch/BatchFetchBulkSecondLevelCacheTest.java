@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batch fetching checks which of the batched entities are in the
+ * second-level cache with a single cache operation.
+ */
+@DomainModel(annotatedClasses = BatchFetchBulkSecondLevelCacheTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class BatchFetchBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntitiesAreLeftOutOfTheBatch(SessionFactoryScope scope) {
+		// put items 2 and 3 in the cache
+		scope.inSession( session -> {
+			session.get( Item.class, 2 );
+			session.get( Item.class, 3 );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final List<Item> references = new ArrayList<>();
+			for ( int i = 1; i <= 5; i++ ) {
+				references.add( session.getReference( Item.class, i ) );
+			}
+
+			final CacheGetCounter counter = new CacheGetCounter();
+			session.addEventListeners( counter );
+			Hibernate.initialize( references.get( 0 ) );
+
+			// one get for the requested item, and one for the rest of the batch
+			assertThat( counter.cacheGets ).isEqualTo( 2 );
+			assertThat( Hibernate.isInitialized( references.get( 1 ) ) ).isFalse();
+			assertThat( Hibernate.isInitialized( references.get( 2 ) ) ).isFalse();
+			assertThat( Hibernate.isInitialized( references.get( 3 ) ) ).isTrue();
+			assertThat( Hibernate.isInitialized( references.get( 4 ) ) ).isTrue();
+		} );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetEnd(boolean hit) {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flushes skip the flush entity event for enhanced entities without
+ * dirty attributes, and must still detect every change.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(inlineDirtyChecking = true)
+public class DirtyTrackingFlushTest extends BaseCoreFunctionalTestCase {
+	private static final int COUNT = 50;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class, Event.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void setUp() {
+		inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			session.persist( new Event( 1, new Date( 0 ) ) );
+		} );
+	}
+
+	@After
+	public void tearDown() {
+		inTransaction( session -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete Event" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testAutoFlushDetectsTrackedChange() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			assertThat( items ).hasSize( COUNT );
+			statistics.clear();
+
+			session.find( Item.class, 7 ).setName( "changed" );
+			assertThat( session.createSelectionQuery( "select count(*) from Item where name = 'changed'", Long.class )
+					.getSingleResult() ).isEqualTo( 1L );
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+			// nothing changed since the last flush
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testInPlaceMutationIsDetected() {
+		inTransaction( session -> session.find( Event.class, 1 ).getDate().setTime( 1000 ) );
+		inTransaction( session -> assertThat( session.find( Event.class, 1 ).getDate().getTime() ).isEqualTo( 1000 ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Integer id;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date date;
+
+		public Event() {
+		}
+
+		public Event(Integer id, Date date) {
+			this.id = id;
+			this.date = date;
+		}
+
+		public Date getDate() {
+			return date;
+		}
+	}
+}
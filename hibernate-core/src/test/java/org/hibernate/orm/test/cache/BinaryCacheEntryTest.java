@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#USE_BINARY_CACHE_ENTRIES}.
+ */
+@DomainModel(annotatedClasses = { BinaryCacheEntryTest.Product.class, BinaryCacheEntryTest.Vendor.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.USE_BINARY_CACHE_ENTRIES, value = "true")
+})
+@SessionFactory
+public class BinaryCacheEntryTest {
+	private static final UUID CODE = UUID.randomUUID();
+	private static final Instant CREATED = Instant.parse( "2024-02-29T10:15:30.123456789Z" );
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Vendor vendor = new Vendor( 1, "Acme" );
+			session.persist( vendor );
+			final Product product = new Product();
+			product.id = 1L;
+			product.name = "Anvil";
+			product.description = "Anvil";
+			product.quantity = -42;
+			product.price = new BigDecimal( "1234.5600" );
+			product.code = CODE;
+			product.available = LocalDate.of( 1949, 9, 17 );
+			product.created = CREATED;
+			product.status = Status.DISCONTINUED;
+			product.dimensions = new Dimensions( 1.5, 2.25f );
+			product.vendor = vendor;
+			product.tags.add( "heavy" );
+			product.tags.add( "iron" );
+			session.persist( product );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Product" ).executeUpdate();
+			session.createMutationQuery( "delete Vendor" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityRoundTrip(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		factory.getCache().evictAllRegions();
+		final StatisticsImplementor statistics = factory.getStatistics();
+		statistics.clear();
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Product.class.getName() );
+
+		scope.inTransaction( session -> session.get( Product.class, 1L ).tags.size() );
+		assertThat( entityStatistics.getCachePutCount() ).isEqualTo( 1 );
+
+		// the cached state is a byte array
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Product.class );
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		scope.inSession( session -> {
+			final Object key = access.generateCacheKey( 1L, persister, factory, null );
+			assertThat( access.get( session, key ) ).isInstanceOf( byte[].class );
+		} );
+
+		scope.inTransaction( session -> {
+			final Product product = session.get( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Anvil" );
+			assertThat( product.description ).isEqualTo( "Anvil" );
+			assertThat( product.quantity ).isEqualTo( -42 );
+			assertThat( product.price ).isEqualTo( new BigDecimal( "1234.5600" ) );
+			assertThat( product.code ).isEqualTo( CODE );
+			assertThat( product.available ).isEqualTo( LocalDate.of( 1949, 9, 17 ) );
+			assertThat( product.status ).isEqualTo( Status.DISCONTINUED );
+			assertThat( product.dimensions.height ).isEqualTo( 1.5 );
+			assertThat( product.dimensions.width ).isEqualTo( 2.25f );
+			assertThat( product.vendor.name ).isEqualTo( "Acme" );
+			assertThat( product.tags ).containsExactlyInAnyOrder( "heavy", "iron" );
+			assertThat( product.version ).isEqualTo( 0 );
+		} );
+		assertThat( entityStatistics.getCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testUpdatedEntityIsCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Product.class.getName() );
+
+		scope.inTransaction( session -> {
+			final Product product = session.get( Product.class, 1L );
+			product.name = null;
+			product.quantity = Integer.MAX_VALUE;
+			product.status = Status.AVAILABLE;
+		} );
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Product product = session.get( Product.class, 1L );
+			assertThat( product.name ).isNull();
+			assertThat( product.quantity ).isEqualTo( Integer.MAX_VALUE );
+			assertThat( product.status ).isEqualTo( Status.AVAILABLE );
+			assertThat( product.version ).isEqualTo( 1 );
+		} );
+		assertThat( entityStatistics.getCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	public enum Status {
+		AVAILABLE,
+		DISCONTINUED
+	}
+
+	@Entity(name = "Product")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		Long id;
+		@Version
+		Integer version;
+		String name;
+		String description;
+		int quantity;
+		BigDecimal price;
+		UUID code;
+		LocalDate available;
+		Instant created;
+		@Enumerated(EnumType.STRING)
+		Status status;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne
+		Vendor vendor;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<String> tags = new HashSet<>();
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double height;
+		float width;
+
+		Dimensions() {
+		}
+
+		Dimensions(double height, float width) {
+			this.height = height;
+			this.width = width;
+		}
+	}
+
+	@Entity(name = "Vendor")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Vendor {
+		@Id
+		Integer id;
+		String name;
+
+		Vendor() {
+		}
+
+		Vendor(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
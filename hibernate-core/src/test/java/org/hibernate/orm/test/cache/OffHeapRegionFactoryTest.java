@@ -0,0 +1,182 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OffHeapRegionFactory}.
+ */
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityCaching(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Book.class.getName() );
+
+		scope.inTransaction( session -> session.get( Book.class, 1 ) );
+		assertThat( entityStatistics.getCacheMissCount() ).isEqualTo( 1 );
+		assertThat( entityStatistics.getCachePutCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> assertThat( session.get( Book.class, 1 ).title ).isEqualTo( "Book 1" ) );
+		assertThat( entityStatistics.getCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.get( Book.class, 1 ).title = "Revised" );
+		scope.inTransaction( session -> assertThat( session.get( Book.class, 1 ).title ).isEqualTo( "Revised" ) );
+		assertThat( entityStatistics.getCacheHitCount() ).isEqualTo( 2 );
+
+		final CacheRegionStatistics regionStatistics =
+				statistics.getDomainDataRegionStatistics( entityStatistics.getCacheRegionName() );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getSizeInMemory() ).isGreaterThan( 0 );
+		assertThat( regionStatistics.getElementCountOnDisk() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQueryCaching(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( books ).hasSize( 10 );
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// an update invalidates the cached results
+		scope.inTransaction( session -> session.get( Book.class, 2 ).title = "Revised" );
+		scope.inTransaction( session -> session.createSelectionQuery( "from Book order by id", Book.class )
+				.setCacheable( true )
+				.getResultList() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testOldestEntriesAreEvicted() {
+		// room for two slabs of four entries
+		final int entrySize = SerializationHelper.serialize( new byte[50] ).length;
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( "test", 8 * entrySize, 4 * entrySize, 0 );
+
+		// a replaced entry no longer counts
+		for ( int i = 0; i < 3; i++ ) {
+			storage.putIntoCache( i, new byte[50], null );
+		}
+		assertThat( storage.getSizeInMemory() ).isEqualTo( 3 * entrySize );
+		storage.putIntoCache( 0, "zero", null );
+		assertThat( storage.getFromCache( 0, null ) ).isEqualTo( "zero" );
+		assertThat( storage.getElementCountInMemory() ).isEqualTo( 3 );
+		assertThat( storage.getSizeInMemory() ).isLessThan( 3 * entrySize );
+
+		storage.evictData();
+		assertThat( storage.getElementCountInMemory() ).isEqualTo( 0 );
+		assertThat( storage.getSizeInMemory() ).isEqualTo( 0 );
+
+		for ( int i = 0; i < 12; i++ ) {
+			storage.putIntoCache( i, new byte[50], null );
+		}
+		assertThat( storage.getAllocatedSize() ).isEqualTo( 8 * entrySize );
+		for ( int i = 0; i < 4; i++ ) {
+			assertThat( storage.contains( i ) ).isFalse();
+			assertThat( storage.getFromCache( i, null ) ).isNull();
+		}
+		for ( int i = 4; i < 12; i++ ) {
+			assertThat( storage.getFromCache( i, null ) ).isEqualTo( new byte[50] );
+		}
+		assertThat( storage.getElementCountInMemory() ).isEqualTo( 8 );
+
+		// an entry larger than a slab is not cached
+		storage.putIntoCache( 11, new byte[8 * entrySize], null );
+		assertThat( storage.contains( 11 ) ).isFalse();
+		assertThat( storage.getElementCountInMemory() ).isEqualTo( 7 );
+
+		storage.release();
+		assertThat( storage.getAllocatedSize() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testEntriesExpire() throws InterruptedException {
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( "test", 1000, 500, 20 );
+		storage.putIntoCache( 1, "one", null );
+		assertThat( storage.getFromCache( 1, null ) ).isEqualTo( "one" );
+		Thread.sleep( 50 );
+		assertThat( storage.contains( 1 ) ).isFalse();
+		assertThat( storage.getFromCache( 1, null ) ).isNull();
+		assertThat( storage.getElementCountInMemory() ).isEqualTo( 0 );
+		storage.release();
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
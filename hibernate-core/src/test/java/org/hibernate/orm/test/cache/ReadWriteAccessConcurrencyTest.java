@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the soft lock and version semantics of the read-write access type,
+ * including when the entries of a region are accessed concurrently.
+ */
+@DomainModel(annotatedClasses = ReadWriteAccessConcurrencyTest.Gadget.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+@SessionFactory
+public class ReadWriteAccessConcurrencyTest {
+	private static final int THREADS = 8;
+
+	@Test
+	public void testSoftLockSemantics(SessionFactoryScope scope) {
+		final EntityDataAccess access = access( scope );
+		final Object key = key( scope, access, 1 );
+
+		inSession( scope, session -> assertThat( access.putFromLoad( session, key, "v1", 1 ) ).isTrue() );
+		inSession( scope, session -> assertThat( access.get( session, key ) ).isEqualTo( "v1" ) );
+
+		final SoftLock lock = inSession( scope, session -> access.lockItem( session, key, 1 ) );
+		inSession( scope, session -> {
+			// a locked entry can't be read, nor replaced from a load
+			assertThat( access.get( session, key ) ).isNull();
+			assertThat( access.putFromLoad( session, key, "v2", 2 ) ).isFalse();
+			return null;
+		} );
+
+		inSession( scope, session -> assertThat( access.afterUpdate( session, key, "v2", 2, 1, lock ) ).isTrue() );
+		inSession( scope, session -> {
+			assertThat( access.get( session, key ) ).isEqualTo( "v2" );
+			// an older version never replaces a newer one
+			assertThat( access.putFromLoad( session, key, "v1", 1 ) ).isFalse();
+			return null;
+		} );
+	}
+
+	@Test
+	public void testConcurrentLocksOfSameKey(SessionFactoryScope scope) throws Exception {
+		final EntityDataAccess access = access( scope );
+		final Object key = key( scope, access, 2 );
+		inSession( scope, session -> access.putFromLoad( session, key, "v1", 1 ) );
+
+		final SoftLock[] locks = new SoftLock[THREADS];
+		runConcurrently( thread -> locks[thread] = inSession( scope, session -> access.lockItem( session, key, 1 ) ) );
+
+		// release all but one of the locks
+		runConcurrently( thread -> {
+			if ( thread > 0 ) {
+				inSession( scope, session -> {
+					access.unlockItem( session, key, locks[thread] );
+					return null;
+				} );
+			}
+		} );
+		inSession( scope, session -> {
+			assertThat( access.get( session, key ) ).isNull();
+			assertThat( access.putFromLoad( session, key, "v2", 2 ) ).isFalse();
+			return null;
+		} );
+
+		// once every lock is released, a newer version may be cached
+		inSession( scope, session -> {
+			access.unlockItem( session, key, locks[0] );
+			return null;
+		} );
+		inSession( scope, session -> {
+			assertThat( access.putFromLoad( session, key, "v1", 1 ) ).isFalse();
+			assertThat( access.putFromLoad( session, key, "v2", 2 ) ).isTrue();
+			return null;
+		} );
+		inSession( scope, session -> assertThat( access.get( session, key ) ).isEqualTo( "v2" ) );
+	}
+
+	@Test
+	public void testConcurrentUpdatesOfDistinctKeys(SessionFactoryScope scope) throws Exception {
+		final EntityDataAccess access = access( scope );
+		final int keysPerThread = 50;
+		final int updates = 20;
+
+		runConcurrently( thread -> {
+			for ( int version = 1; version <= updates; version++ ) {
+				for ( int i = 0; i < keysPerThread; i++ ) {
+					final int id = 1000 + thread * keysPerThread + i;
+					final Object key = key( scope, access, id );
+					final int previous = version - 1;
+					final int current = version;
+					final SoftLock lock = inSession( scope, session -> access.lockItem( session, key, previous ) );
+					inSession( scope, session -> {
+						// meanwhile, any value read for the key is its own
+						final Object value = access.get( session, key );
+						assertThat( value == null || ( (String) value ).startsWith( id + ":" ) ).isTrue();
+						return access.afterUpdate( session, key, id + ":" + current, current, previous, lock );
+					} );
+				}
+			}
+		} );
+
+		for ( int thread = 0; thread < THREADS; thread++ ) {
+			for ( int i = 0; i < keysPerThread; i++ ) {
+				final int id = 1000 + thread * keysPerThread + i;
+				final Object key = key( scope, access, id );
+				inSession( scope, session -> assertThat( access.get( session, key ) ).isEqualTo( id + ":" + updates ) );
+			}
+		}
+	}
+
+	private static EntityDataAccess access(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Gadget.class )
+				.getCacheAccessStrategy();
+	}
+
+	private static Object key(SessionFactoryScope scope, EntityDataAccess access, int id) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Gadget.class );
+		return access.generateCacheKey( id, persister, factory, null );
+	}
+
+	/**
+	 * Run the action in a new session, so that it sees everything cached before.
+	 */
+	private static <T> T inSession(SessionFactoryScope scope, SessionAction<T> action) {
+		try ( SessionImplementor session = (SessionImplementor) scope.getSessionFactory().openSession() ) {
+			return action.apply( session );
+		}
+	}
+
+	private static void runConcurrently(ThreadAction action) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final CyclicBarrier barrier = new CyclicBarrier( THREADS );
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				final int thread = i;
+				futures.add( executor.submit( () -> {
+					barrier.await();
+					action.run( thread );
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 60, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private interface SessionAction<T> {
+		T apply(SessionImplementor session);
+	}
+
+	private interface ThreadAction {
+		void run(int thread) throws Exception;
+	}
+
+	@Entity(name = "Gadget")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Gadget {
+		@Id
+		Integer id;
+		@Version
+		Integer version;
+		String name;
+	}
+}
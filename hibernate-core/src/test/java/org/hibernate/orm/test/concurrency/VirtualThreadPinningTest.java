@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.concurrency;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs sessions on virtual threads, and checks with JFR that no virtual
+ * thread is pinned to its carrier while blocked inside Hibernate.
+ * <p>
+ * Requires JDK 21 or later, and is skipped on older JDKs.
+ */
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Ticket.class)
+// the built-in pool fails rather than waits when it is exhausted
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.POOL_SIZE, value = "50"))
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int THREADS = 50;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testNoPinningInHibernate(SessionFactoryScope scope) throws Exception {
+		assumeTrue( Runtime.version().feature() >= 21, "Virtual threads require JDK 21" );
+		// build the SessionFactory up front, not concurrently from the test threads
+		scope.getSessionFactory();
+
+		final List<RecordedEvent> pinned = new ArrayList<>();
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withStackTrace().withThreshold( Duration.ZERO );
+			recording.start();
+
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < THREADS; i++ ) {
+					final String name = "ticket-" + i;
+					futures.add( executor.submit( () -> {
+						start.await();
+						// every thread competes for the same increment generator
+						// and for the same, as yet untranslated, query plan
+						scope.inTransaction( session -> {
+							final Ticket ticket = new Ticket();
+							ticket.name = name;
+							session.persist( ticket );
+						} );
+						scope.inTransaction( session -> assertThat(
+								session.createSelectionQuery( "from Ticket where name = :name", Ticket.class )
+										.setParameter( "name", name )
+										.getResultList()
+						).hasSize( 1 ) );
+						return null;
+					} ) );
+				}
+				start.countDown();
+				for ( Future<?> future : futures ) {
+					future.get( 1, TimeUnit.MINUTES );
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+
+			recording.stop();
+			final Path file = directory.resolve( "pinning.jfr" );
+			recording.dump( file );
+			for ( RecordedEvent event : RecordingFile.readAllEvents( file ) ) {
+				if ( PINNED_EVENT.equals( event.getEventType().getName() ) && isInHibernate( event ) ) {
+					pinned.add( event );
+				}
+			}
+		}
+		finally {
+			scope.inTransaction( session -> session.createMutationQuery( "delete Ticket" ).executeUpdate() );
+		}
+
+		assertThat( pinned ).isEmpty();
+	}
+
+	/**
+	 * Pinning inside the JDBC driver is not our concern, so only count
+	 * events where the code which blocked, that is, the first frame outside
+	 * the JDK, belongs to Hibernate.
+	 */
+	private static boolean isInHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			final String className = frame.getMethod().getType().getName();
+			if ( !className.startsWith( "java." ) && !className.startsWith( "jdk." )
+					&& !className.startsWith( "sun." ) ) {
+				return className.startsWith( "org.hibernate." )
+						&& !className.startsWith( "org.hibernate.orm.test." );
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		// the test sources are compiled for a JDK without virtual threads
+		return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "increment")
+		@GenericGenerator(name = "increment", strategy = "increment")
+		Long id;
+		String name;
+	}
+}
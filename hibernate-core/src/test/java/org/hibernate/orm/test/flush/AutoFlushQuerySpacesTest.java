@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that an auto-flush is skipped without dirty checking when no
+ * managed entity could affect the tables of the query.
+ */
+@DomainModel(annotatedClasses = {
+		AutoFlushQuerySpacesTest.Shelf.class,
+		AutoFlushQuerySpacesTest.Volume.class,
+		AutoFlushQuerySpacesTest.Country.class
+})
+@SessionFactory
+public class AutoFlushQuerySpacesTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = new Shelf( 1, "fiction" );
+			shelf.volumes.add( new Volume( 1, "Dune", shelf ) );
+			session.persist( shelf );
+			session.persist( new Country( 1, "Iceland" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Volume" ).executeUpdate();
+			session.createMutationQuery( "delete Shelf" ).executeUpdate();
+			session.createMutationQuery( "delete Country" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUnrelatedQuerySkipsFlush(SessionFactoryScope scope) {
+		final PreFlushCounter counter = new PreFlushCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( counter ).openSession() ) {
+			session.getTransaction().begin();
+			session.find( Shelf.class, 1 ).name = "science fiction";
+
+			assertThat( session.createSelectionQuery( "from Country", Country.class ).getResultList() ).hasSize( 1 );
+			assertThat( counter.count ).isEqualTo( 0 );
+
+			// volumes are reachable from shelves, so the shelf must be dirty checked
+			assertThat( session.createSelectionQuery( "from Volume", Volume.class ).getResultList() ).hasSize( 1 );
+			assertThat( counter.count ).isEqualTo( 1 );
+
+			assertThat( session.createSelectionQuery( "from Shelf where name = 'science fiction'", Shelf.class )
+					.getResultList() ).hasSize( 1 );
+			assertThat( counter.count ).isEqualTo( 2 );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testCascadedChangeIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = session.find( Shelf.class, 1 );
+			shelf.volumes.add( new Volume( 2, "Solaris", shelf ) );
+			assertThat( session.createSelectionQuery( "from Volume", Volume.class ).getResultList() ).hasSize( 2 );
+		} );
+	}
+
+	@Test
+	public void testQueuedActionIsFlushed(SessionFactoryScope scope) {
+		final PreFlushCounter counter = new PreFlushCounter();
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( counter ).openSession() ) {
+			session.getTransaction().begin();
+			session.persist( new Country( 2, "Chile" ) );
+			assertThat( session.createSelectionQuery( "from Country", Country.class ).getResultList() ).hasSize( 2 );
+			assertThat( counter.count ).isEqualTo( 1 );
+			session.getTransaction().commit();
+		}
+	}
+
+	private static class PreFlushCounter implements Interceptor {
+		private int count;
+
+		@Override
+		public void preFlush(Iterator<Object> entities) {
+			count++;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "shelf", cascade = CascadeType.ALL)
+		List<Volume> volumes = new ArrayList<>();
+
+		Shelf() {
+		}
+
+		Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Volume")
+	public static class Volume {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Shelf shelf;
+
+		Volume() {
+		}
+
+		Volume(Integer id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		Integer id;
+		String name;
+
+		Country() {
+		}
+
+		Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
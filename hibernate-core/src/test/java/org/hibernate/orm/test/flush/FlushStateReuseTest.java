@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#FLUSH_STATE_REUSE}.
+ */
+@DomainModel(annotatedClasses = { FlushStateReuseTest.Account.class, FlushStateReuseTest.Branch.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.FLUSH_STATE_REUSE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class FlushStateReuseTest {
+	private static final int ACCOUNTS = 100;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Branch north = new Branch( 1, "north" );
+			final Branch south = new Branch( 2, "south" );
+			session.persist( north );
+			session.persist( south );
+			for ( int i = 0; i < ACCOUNTS; i++ ) {
+				session.persist( new Account( i, i % 2 == 0 ? north : south, i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Account" ).executeUpdate();
+			session.createMutationQuery( "delete Branch" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testChangesAreDetectedAcrossFlushes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( ( (EventSource) session ).getFlushStatePool() ).isNotNull();
+
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.getResultList();
+			final Branch south = session.find( Branch.class, 2 );
+			statistics.clear();
+
+			// the arrays of the unchanged entities are reused for the changed ones
+			accounts.get( 10 ).balance = -1;
+			accounts.get( 20 ).branch = south;
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+
+			accounts.get( 30 ).balance = -1;
+			accounts.get( 31 ).balance = -2;
+			south.name = "southwest";
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 5 );
+
+			// the state of the earlier updates was not overwritten by reuse
+			accounts.get( 10 ).balance = 10;
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 6 );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Account.class, 10 ).balance ).isEqualTo( 10 );
+			assertThat( session.find( Account.class, 20 ).branch.id ).isEqualTo( 2 );
+			assertThat( session.find( Account.class, 30 ).balance ).isEqualTo( -1 );
+			assertThat( session.find( Account.class, 31 ).balance ).isEqualTo( -2 );
+			assertThat( session.find( Account.class, 40 ).balance ).isEqualTo( 40 );
+			assertThat( session.find( Branch.class, 2 ).name ).isEqualTo( "southwest" );
+		} );
+	}
+
+	@Test
+	public void testDeletedEntityIsNotUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account", Account.class ).getResultList();
+			statistics.clear();
+			session.flush();
+			accounts.get( 0 ).balance = -1;
+			session.remove( accounts.get( 0 ) );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+			assertThat( statistics.getEntityDeleteCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Integer id;
+		@ManyToOne
+		Branch branch;
+		long balance;
+
+		Account() {
+		}
+
+		Account(Integer id, Branch branch, long balance) {
+			this.id = id;
+			this.branch = branch;
+			this.balance = balance;
+		}
+	}
+
+	@Entity(name = "Branch")
+	public static class Branch {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "branch")
+		List<Account> accounts = new ArrayList<>();
+
+		Branch() {
+		}
+
+		Branch(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD}.
+ */
+@DomainModel(annotatedClasses = { ParallelDirtyCheckingTest.Account.class, ParallelDirtyCheckingTest.Branch.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+	private static final int ACCOUNTS = 2_000;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Branch north = new Branch( 1, "north" );
+			final Branch south = new Branch( 2, "south" );
+			session.persist( north );
+			session.persist( south );
+			for ( int i = 0; i < ACCOUNTS; i++ ) {
+				session.persist( new Account( i, i % 2 == 0 ? north : south, i, new Address( "street " + i, "city" ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Account" ).executeUpdate();
+			session.createMutationQuery( "delete Branch" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testChangesAreDetected(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+					.getResultList();
+			final Branch south = session.find( Branch.class, 2 );
+			statistics.clear();
+
+			// a basic property, an embedded property, an association, and both
+			accounts.get( 10 ).balance = -1;
+			accounts.get( 20 ).address.city = "town";
+			accounts.get( 30 ).branch = south;
+			accounts.get( 40 ).balance = -1;
+			accounts.get( 40 ).branch = south;
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 4 );
+
+			// nothing changed since
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 4 );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Account.class, 10 ).balance ).isEqualTo( -1 );
+			assertThat( session.find( Account.class, 20 ).address.city ).isEqualTo( "town" );
+			assertThat( session.find( Account.class, 30 ).branch.id ).isEqualTo( 2 );
+			assertThat( session.find( Account.class, 40 ).balance ).isEqualTo( -1 );
+			assertThat( session.find( Account.class, 40 ).branch.id ).isEqualTo( 2 );
+			assertThat( session.find( Account.class, 50 ).balance ).isEqualTo( 50 );
+		} );
+	}
+
+	@Test
+	public void testDeletedEntityIsNotUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Account> accounts = session.createSelectionQuery( "from Account", Account.class ).getResultList();
+			statistics.clear();
+			accounts.get( 0 ).balance = -1;
+			session.remove( accounts.get( 0 ) );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+			assertThat( statistics.getEntityDeleteCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Account")
+	@DynamicUpdate
+	public static class Account {
+		@Id
+		Integer id;
+		@ManyToOne
+		Branch branch;
+		long balance;
+		@Embedded
+		Address address;
+
+		Account() {
+		}
+
+		Account(Integer id, Branch branch, long balance, Address address) {
+			this.id = id;
+			this.branch = branch;
+			this.balance = balance;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		String street;
+		String city;
+
+		Address() {
+		}
+
+		Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Branch")
+	public static class Branch {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "branch")
+		List<Account> accounts = new ArrayList<>();
+
+		Branch() {
+		}
+
+		Branch(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
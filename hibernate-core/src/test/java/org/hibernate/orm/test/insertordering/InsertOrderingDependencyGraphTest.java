@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * Tests that a self-referencing entity, and an entity referring to it,
+ * are each inserted and deleted in a single batch.
+ */
+public class InsertOrderingDependencyGraphTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Category.class, Product.class };
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builder) {
+		super.applySettings( builder );
+		builder.applySetting( Environment.ORDER_UPDATES, "true" );
+	}
+
+	@Test
+	public void testSelfReferenceAndDependentEntity() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Category root = new Category( 1, null );
+			session.persist( root );
+			session.persist( new Product( 1, root ) );
+			final Category child = new Category( 2, root );
+			session.persist( child );
+			session.persist( new Product( 2, child ) );
+			session.persist( new Category( 3, child ) );
+			session.persist( new Product( 3, root ) );
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Category (parent_id,id) values (?,?)", 3 ),
+				new Batch( "insert into Product (category_id,id) values (?,?)", 3 )
+		);
+		verifyPreparedStatementCount( 2 );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final List<Category> categories = session.createSelectionQuery( "from Category order by id", Category.class )
+					.getResultList();
+			final List<Product> products = session.createSelectionQuery( "from Product order by id", Product.class )
+					.getResultList();
+			session.remove( products.get( 0 ) );
+			session.remove( categories.get( 2 ) );
+			session.remove( products.get( 1 ) );
+			session.remove( categories.get( 1 ) );
+			session.remove( products.get( 2 ) );
+			session.remove( categories.get( 0 ) );
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "delete from Product where id=?", 3 ),
+				new Batch( "delete from Category where id=?", 3 )
+		);
+		verifyPreparedStatementCount( 2 );
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Category parent;
+
+		Category() {
+		}
+
+		Category(Integer id, Category parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Category category;
+
+		Product() {
+		}
+
+		Product(Integer id, Category category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+}
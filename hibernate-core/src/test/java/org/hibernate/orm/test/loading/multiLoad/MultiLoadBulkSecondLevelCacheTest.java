@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a multi-load reads the second-level cache entries of all the
+ * requested entities in a single operation.
+ */
+@DomainModel(annotatedClasses = MultiLoadBulkSecondLevelCacheTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class MultiLoadBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final CacheGetCounter counter = new CacheGetCounter();
+			session.addEventListeners( counter );
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( true )
+					.multiLoad( 5, 4, 3, 2, 1 );
+			assertThat( items ).extracting( item -> item.id ).containsExactly( 5, 4, 3, 2, 1 );
+			assertThat( items.get( 2 ).name ).isEqualTo( "Item 3" );
+			assertThat( counter.cacheGets ).isEqualTo( 1 );
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			// an entity already in the session is not read from the cache
+			final Item managed = session.get( Item.class, 1 );
+			statistics.clear();
+
+			final CacheGetCounter counter = new CacheGetCounter();
+			session.addEventListeners( counter );
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.enableSessionCheck( true )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( items ).hasSize( 5 ).contains( managed );
+			assertThat( counter.cacheGets ).isEqualTo( 1 );
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetEnd(boolean hit) {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that named HQL queries are checked, and their interpretations
+ * cached, when the {@code SessionFactory} starts.
+ */
+@DomainModel(annotatedClasses = NamedQueryStartupCheckTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, value = "4")
+})
+@SessionFactory
+public class NamedQueryStartupCheckTest {
+
+	@Test
+	public void testNamedQueriesArePrecompiled(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+				.getNumberOfCachedHqlInterpretations() ).isGreaterThanOrEqualTo( 8 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 8; i++ ) {
+				session.createNamedQuery( "Book.query" + i, Book.class ).getResultList();
+			}
+		} );
+		// the HQL interpretations were cached at startup, only the SQL plans are new
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 8 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 8 );
+	}
+
+	@Test
+	public void testAllErrorsAreReported() {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, 4 )
+				.build();
+		try {
+			final NamedQueryValidationException exception = assertThrows(
+					NamedQueryValidationException.class,
+					() -> new MetadataSources( registry )
+							.addAnnotatedClass( Book.class )
+							.addAnnotatedClass( BrokenBook.class )
+							.buildMetadata()
+							.buildSessionFactory()
+			);
+			assertThat( exception.getErrors() ).containsOnlyKeys( "BrokenBook.unknownEntity", "BrokenBook.unknownPath" );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.query0", query = "from Book where id = 0")
+	@NamedQuery(name = "Book.query1", query = "from Book where id = 1")
+	@NamedQuery(name = "Book.query2", query = "from Book where id = 2")
+	@NamedQuery(name = "Book.query3", query = "from Book where id = 3")
+	@NamedQuery(name = "Book.query4", query = "from Book where title = 'four'")
+	@NamedQuery(name = "Book.query5", query = "from Book where title = 'five'")
+	@NamedQuery(name = "Book.query6", query = "from Book where title like 's%'")
+	@NamedQuery(name = "Book.query7", query = "from Book order by title")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+
+	@Entity(name = "BrokenBook")
+	@NamedQuery(name = "BrokenBook.unknownEntity", query = "from NoSuchEntity")
+	@NamedQuery(name = "BrokenBook.unknownPath", query = "from BrokenBook where noSuchAttribute = 1")
+	@NamedQuery(name = "BrokenBook.valid", query = "from BrokenBook")
+	public static class BrokenBook {
+		@Id
+		Long id;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE}.
+ */
+@BaseUnitTest
+public class QueryPlanCacheSnapshotTest {
+
+	private static final String QUERY = "from Book\nwhere title like :title";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testSnapshotIsWrittenAndWarmsCache() throws Exception {
+		final Path snapshot = directory.resolve( "hql-cache.txt" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, false ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache()
+					.getNumberOfCachedHqlInterpretations() ).isZero();
+			sessionFactory.inSession( session -> {
+				session.createQuery( QUERY, Book.class );
+				session.createQuery( "select count(*) from Book" );
+			} );
+		}
+		assertThat( Files.exists( snapshot ) ).isTrue();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, false ) ) {
+			final QueryInterpretationCache cache = sessionFactory.getQueryEngine().getInterpretationCache();
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+
+			final Statistics statistics = sessionFactory.getStatistics();
+			statistics.clear();
+			sessionFactory.inSession( session -> {
+				final List<Book> books = session.createQuery( QUERY, Book.class )
+						.setParameter( "title", "%" )
+						.getResultList();
+				assertThat( books ).isEmpty();
+			} );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testInvalidQueriesAreSkipped() throws Exception {
+		final Path snapshot = directory.resolve( "hql-cache.txt" );
+		Files.writeString(
+				snapshot,
+				"\tfrom Book\n"
+						+ "\tfrom NoLongerAnEntity\n"
+						+ "com.example.NoLongerAClass\tfrom Book\n"
+		);
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, false ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCache()
+					.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testWarmupInBackground() throws Exception {
+		final Path snapshot = directory.resolve( "hql-cache.txt" );
+		Files.writeString( snapshot, "\tfrom Book\n" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( snapshot, true ) ) {
+			final QueryInterpretationCache cache = sessionFactory.getQueryEngine().getInterpretationCache();
+			final long deadline = System.currentTimeMillis() + 10_000;
+			while ( cache.getNumberOfCachedHqlInterpretations() == 0 && System.currentTimeMillis() < deadline ) {
+				Thread.sleep( 10 );
+			}
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path snapshot, boolean background) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE, snapshot.toString() )
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_WARMUP_IN_BACKGROUND, background )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HibernateHints#HINT_DETACH_STREAMED_RESULTS} and
+ * {@link org.hibernate.query.SelectionQuery#getResultPublisher()}.
+ */
+@DomainModel(annotatedClasses = StreamedResultsTest.Book.class)
+@SessionFactory
+public class StreamedResultsTest {
+	private static final int BOOKS = 10;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < BOOKS; i++ ) {
+				final Book book = new Book();
+				book.id = (long) i;
+				book.title = "Book " + i;
+				session.persist( book );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStreamedEntitiesAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = new ArrayList<>();
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.setFetchSize( 3 )
+					.getResultStream() ) {
+				stream.forEach( book -> {
+					assertThat( session.contains( book ) ).isTrue();
+					// only the current result is associated with the session
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+					books.add( book );
+				} );
+			}
+			assertThat( books ).hasSize( BOOKS );
+			assertThat( session.contains( books.get( 0 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testStreamedTuplesAreDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Object[]> stream = session.createSelectionQuery( "select b, b.title from Book b", Object[].class )
+					.setHint( HibernateHints.HINT_DETACH_STREAMED_RESULTS, true )
+					.getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( BOOKS );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isLessThanOrEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testStreamedEntitiesAreManagedByDefault(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> stream = session.createSelectionQuery( "from Book", Book.class ).getResultStream() ) {
+				assertThat( stream.count() ).isEqualTo( BOOKS );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( BOOKS );
+		} );
+	}
+
+	@Test
+	public void testPublisher(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CollectingSubscriber subscriber = new CollectingSubscriber( 3, Long.MAX_VALUE );
+			session.createSelectionQuery( "select title from Book order by id", String.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			// nothing is read until the subscriber requests results
+			assertThat( subscriber.titles ).isEmpty();
+
+			subscriber.subscription.request( 3 );
+			assertThat( subscriber.titles ).containsExactly( "Book 0", "Book 1", "Book 2", "Book 3", "Book 4", "Book 5",
+					"Book 6", "Book 7", "Book 8", "Book 9" );
+			assertThat( subscriber.completed ).isTrue();
+			assertThat( subscriber.error ).isNull();
+		} );
+	}
+
+	@Test
+	public void testPublisherCancel(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CollectingSubscriber subscriber = new CollectingSubscriber( 1, 4 );
+			session.createSelectionQuery( "select title from Book order by id", String.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 1 );
+			assertThat( subscriber.titles ).hasSize( 4 );
+			assertThat( subscriber.completed ).isFalse();
+
+			subscriber.subscription.request( 1 );
+			assertThat( subscriber.titles ).hasSize( 4 );
+		} );
+	}
+
+	/**
+	 * Requests more results from {@code onNext()}, and cancels after a
+	 * given number of results.
+	 */
+	private static class CollectingSubscriber implements Flow.Subscriber<String> {
+		private final long batch;
+		private final long limit;
+		private final List<String> titles = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private boolean completed;
+		private Throwable error;
+
+		private CollectingSubscriber(long batch, long limit) {
+			this.batch = batch;
+			this.limit = limit;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(String title) {
+			titles.add( title );
+			if ( titles.size() >= limit ) {
+				subscription.cancel();
+			}
+			else if ( titles.size() % batch == 0 ) {
+				subscription.request( batch );
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#USE_QUERY_CACHE_BULK_RESOLUTION}.
+ */
+@DomainModel(annotatedClasses = {
+		QueryCacheBulkResolutionTest.Employee.class,
+		QueryCacheBulkResolutionTest.Department.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE_BULK_RESOLUTION, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryCacheBulkResolutionTest {
+	private static final int DEPARTMENTS = 10;
+	private static final String QUERY = "from Employee order by id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < DEPARTMENTS; i++ ) {
+				final Department department = new Department( i, "Department " + i );
+				session.persist( department );
+				session.persist( new Employee( 2 * i, department ) );
+				session.persist( new Employee( 2 * i + 1, department ) );
+			}
+			// an employee without a department
+			session.persist( new Employee( 100, null ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Employee" ).executeUpdate();
+			session.createMutationQuery( "delete Department" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReferencedEntitiesAreLoadedTogether(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inTransaction( session -> assertEmployees( session.createSelectionQuery( QUERY, Employee.class )
+				.setCacheable( true )
+				.getResultList() ) );
+
+		// the departments are neither in the session nor in the second-level cache
+		scope.getSessionFactory().getCache().evictEntityData( Department.class );
+		statistics.clear();
+		scope.inTransaction( session -> assertEmployees( session.createSelectionQuery( QUERY, Employee.class )
+				.setCacheable( true )
+				.getResultList() ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( DEPARTMENTS );
+
+		// now the departments are all in the second-level cache
+		statistics.clear();
+		scope.inTransaction( session -> assertEmployees( session.createSelectionQuery( QUERY, Employee.class )
+				.setCacheable( true )
+				.getResultList() ) );
+		final EntityStatistics departmentStatistics = statistics.getEntityStatistics( Department.class.getName() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+		assertThat( departmentStatistics.getCacheHitCount() ).isEqualTo( DEPARTMENTS );
+	}
+
+	@Test
+	public void testEntitiesAlreadyInSessionAreNotLoaded(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.createSelectionQuery( QUERY, Employee.class )
+				.setCacheable( true )
+				.getResultList() );
+		scope.getSessionFactory().getCache().evictEntityData( Department.class );
+
+		scope.inTransaction( session -> {
+			final List<Department> departments = session.createSelectionQuery( "from Department", Department.class )
+					.getResultList();
+			statistics.clear();
+			final List<Employee> employees = session.createSelectionQuery( QUERY, Employee.class )
+					.setCacheable( true )
+					.getResultList();
+			assertEmployees( employees );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+			assertThat( employees.get( 0 ).department ).isSameAs( departments.get( 0 ) );
+		} );
+	}
+
+	private static void assertEmployees(List<Employee> employees) {
+		assertThat( employees ).hasSize( 2 * DEPARTMENTS + 1 );
+		for ( int i = 0; i < 2 * DEPARTMENTS; i++ ) {
+			assertThat( employees.get( i ).department.name ).isEqualTo( "Department " + i / 2 );
+		}
+		assertThat( employees.get( 2 * DEPARTMENTS ).department ).isNull();
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.SELECT)
+		Department department;
+
+		Employee() {
+		}
+
+		Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Department {
+		@Id
+		Integer id;
+		String name;
+
+		Department() {
+		}
+
+		Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
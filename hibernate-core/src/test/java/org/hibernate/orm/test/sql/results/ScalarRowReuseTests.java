@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scalar projections may read every row into the same array, when the
+ * row transformer does not hold on to it. Check that doing so never
+ * leaks values from one result to the next.
+ */
+@DomainModel(annotatedClasses = ScalarRowReuseTests.Measurement.class)
+@SessionFactory
+public class ScalarRowReuseTests {
+	private static final int ROWS = 20;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				final Measurement measurement = new Measurement();
+				measurement.id = i;
+				measurement.name = "m" + i;
+				measurement.reading = i * 10L;
+				session.persist( measurement );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSingularProjection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Long> readings = session
+					.createSelectionQuery( "select reading from Measurement order by id", Long.class )
+					.getResultList();
+			assertThat( readings ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( readings.get( i ) ).isEqualTo( i * 10L );
+			}
+		} );
+	}
+
+	@Test
+	public void testConstructorProjection(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Summary> summaries = session
+					.createSelectionQuery( "select name, reading from Measurement order by id", Summary.class )
+					.getResultList();
+			assertThat( summaries ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( summaries.get( i ).name ).isEqualTo( "m" + i );
+				assertThat( summaries.get( i ).reading ).isEqualTo( i * 10L );
+			}
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testListAndMapProjections(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<List> lists = session
+					.createSelectionQuery( "select name, reading from Measurement order by id", List.class )
+					.getResultList();
+			final List<Map> maps = session
+					.createSelectionQuery( "select name as name, reading as reading from Measurement order by id", Map.class )
+					.getResultList();
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( lists.get( i ) ).containsExactly( "m" + i, i * 10L );
+				assertThat( maps.get( i ) ).containsEntry( "name", "m" + i ).containsEntry( "reading", i * 10L );
+			}
+		} );
+	}
+
+	@Test
+	public void testArrayProjectionIsNotReused(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session
+					.createSelectionQuery( "select name, reading from Measurement order by id", Object[].class )
+					.getResultList();
+			assertThat( rows ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( rows.get( i ) ).containsExactly( "m" + i, i * 10L );
+			}
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Integer id;
+		String name;
+		Long reading;
+	}
+
+	public static class Summary {
+		final String name;
+		final Long reading;
+
+		public Summary(String name, Long reading) {
+			this.name = name;
+			this.reading = reading;
+		}
+	}
+}
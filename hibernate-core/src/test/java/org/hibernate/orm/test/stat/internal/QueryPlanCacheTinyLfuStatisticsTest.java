@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the query plan cache statistics reported by
+ * {@link QueryInterpretationCacheTinyLfuImpl}.
+ */
+@DomainModel(annotatedClasses = QueryPlanCacheTinyLfuStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION, value = "tinylfu"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "10")
+})
+@SessionFactory
+public class QueryPlanCacheTinyLfuStatisticsTest {
+
+	@BeforeEach
+	public void clear(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.createQuery( "select e from Employee e", Employee.class );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			session.createQuery( "select e from Employee e", Employee.class );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isZero();
+		} );
+	}
+
+	@Test
+	public void testEvictions(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache = scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		assertThat( cache ).isInstanceOf( QueryInterpretationCacheTinyLfuImpl.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i, Employee.class );
+			}
+		} );
+
+		assertThat( cache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 10 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 50 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() )
+				.isEqualTo( 50 - cache.getNumberOfCachedHqlInterpretations() );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Long id;
+		String name;
+	}
+}
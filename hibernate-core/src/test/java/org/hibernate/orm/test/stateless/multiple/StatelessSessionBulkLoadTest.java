@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.multiple;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple} with
+ * {@value AvailableSettings#USE_BULK_LOAD} enabled.
+ */
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@DomainModel(annotatedClasses = {
+		StatelessSessionBulkLoadTest.Book.class,
+		StatelessSessionBulkLoadTest.Review.class
+})
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_BULK_LOAD, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionBulkLoadTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Review" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleUsesBulkLoad(SessionFactoryScope scope) throws Exception {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			books.add( new Book( i, "Book " + i, Genre.values()[i % 3] ) );
+		}
+		// values which need quoting or represent null
+		books.get( 1 ).title = "Quotes \"and\", commas";
+		books.get( 2 ).title = "Line\nbreak";
+		books.get( 3 ).title = "";
+		books.get( 4 ).title = null;
+		books.get( 4 ).published = null;
+		books.get( 4 ).price = null;
+		books.get( 4 ).genre = null;
+
+		connectionProvider.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( books ) );
+
+		// H2 prepares a single insert ... select from csvread(), PostgreSQL prepares nothing
+		assertThat( connectionProvider.getPreparedStatements() ).hasSizeLessThanOrEqualTo( 1 );
+		assertThat( connectionProvider.getPreparedSQLStatements() ).noneMatch( sql -> sql.contains( "values" ) );
+		for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+			assertThat( connectionProvider.spyContext.getCalls(
+					PreparedStatement.class.getMethod( "addBatch" ),
+					statement
+			) ).isEmpty();
+		}
+
+		for ( Book book : books ) {
+			assertThat( book.version ).isEqualTo( 0 );
+		}
+
+		scope.inStatelessTransaction( session -> {
+			final List<Book> loaded = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			assertThat( loaded ).hasSize( 100 );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				final Book expected = books.get( i );
+				final Book actual = loaded.get( i );
+				assertThat( actual.id ).isEqualTo( expected.id );
+				assertThat( actual.title ).isEqualTo( expected.title );
+				assertThat( actual.published ).isEqualTo( expected.published );
+				assertThat( actual.lastModified ).isEqualTo( expected.lastModified );
+				if ( expected.price == null ) {
+					assertThat( actual.price ).isNull();
+				}
+				else {
+					assertThat( actual.price ).isEqualByComparingTo( expected.price );
+				}
+				assertThat( actual.genre ).isEqualTo( expected.genre );
+				assertThat( actual.available ).isEqualTo( expected.available );
+				assertThat( actual.version ).isEqualTo( 0 );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleFallsBackToBatching(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			entities.add( new Book( i, "Book " + i, Genre.FICTION ) );
+			// identity columns cannot be bulk loaded
+			entities.add( new Review( "Review " + i ) );
+		}
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultList() ).hasSize( 10 );
+			final List<Review> reviews = session.createSelectionQuery( "from Review", Review.class ).getResultList();
+			assertThat( reviews ).hasSize( 10 );
+			assertThat( reviews ).allSatisfy( review -> assertThat( review.id ).isNotNull() );
+		} );
+	}
+
+	private static PreparedStatementSpyConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	public enum Genre {
+		FICTION, HISTORY, SCIENCE
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		LocalDate published;
+		LocalDateTime lastModified;
+		BigDecimal price;
+		@Enumerated(EnumType.STRING)
+		Genre genre;
+		boolean available;
+		@Version
+		Integer version;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Genre genre) {
+			this.id = id;
+			this.title = title;
+			this.genre = genre;
+			this.published = LocalDate.of( 2000 + id % 20, 1 + id % 12, 1 + id % 28 );
+			this.lastModified = LocalDateTime.of( 2024, 3, 1, 12, 30, 15, id * 1_000_000 );
+			this.price = new BigDecimal( id + ".95" );
+			this.available = id % 2 == 0;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String text;
+
+		public Review() {
+		}
+
+		public Review(String text) {
+			this.text = text;
+		}
+	}
+}
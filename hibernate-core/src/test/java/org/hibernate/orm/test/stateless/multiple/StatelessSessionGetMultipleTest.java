@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.multiple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#getMultiple}.
+ */
+@DomainModel(annotatedClasses = StatelessSessionGetMultipleTest.Book.class)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionGetMultipleTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 1; i <= 20; i++ ) {
+			books.add( new Book( i, "Book " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( books ) );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testGetMultipleIsOrderedAndSingleRoundTrip(SessionFactoryScope scope) {
+		final PreparedStatementSpyConnectionProvider connectionProvider =
+				(PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+						.getProperties()
+						.get( AvailableSettings.CONNECTION_PROVIDER );
+		connectionProvider.clear();
+
+		scope.inStatelessSession( session -> {
+			final List<Book> books = session.getMultiple( Book.class, Arrays.asList( 7, 3, 99, 12, 3 ) );
+			assertThat( books ).hasSize( 5 );
+			assertThat( books.get( 0 ).id ).isEqualTo( 7 );
+			assertThat( books.get( 1 ).id ).isEqualTo( 3 );
+			assertThat( books.get( 2 ) ).isNull();
+			assertThat( books.get( 3 ).id ).isEqualTo( 12 );
+			assertThat( books.get( 4 ).id ).isEqualTo( 3 );
+			assertThat( books.get( 3 ).title ).isEqualTo( "Book 12" );
+		} );
+
+		assertThat( connectionProvider.getPreparedStatements() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testGetMultipleReturnsDetachedInstances(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> {
+			final List<Book> first = session.getMultiple( Book.class, Arrays.asList( 1, 2 ) );
+			final List<Book> second = session.getMultiple( Book.class, Arrays.asList( 1, 2 ) );
+			assertThat( first.get( 0 ) ).isNotSameAs( second.get( 0 ) );
+			assertThat( first.get( 1 ) ).isNotSameAs( second.get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testGetMultipleRejectsNullIds(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> assertThrows(
+				IllegalArgumentException.class,
+				() -> session.getMultiple( Book.class, Arrays.asList( 1, null ) )
+		) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.multiple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the rows of a multi-row insert are limited by the parameter
+ * count limit of the dialect when no batch size is configured.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = StatelessSessionMultiRowInsertLimitTest.Note.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_MULTI_ROW_INSERT, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionMultiRowInsertLimitTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Note" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRowsAreLimitedByParameterCount(SessionFactoryScope scope) {
+		final int parameterCountLimit = scope.getSessionFactory().getJdbcServices().getDialect()
+				.getMultiRowInsertParameterCountLimit();
+		final List<Note> notes = new ArrayList<>();
+		for ( int i = 0; i < 1200; i++ ) {
+			notes.add( new Note( i, "Note " + i ) );
+		}
+
+		final PreparedStatementSpyConnectionProvider connectionProvider = (PreparedStatementSpyConnectionProvider)
+				scope.getSessionFactory().getProperties().get( AvailableSettings.CONNECTION_PROVIDER );
+		connectionProvider.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( notes ) );
+
+		// 666 + 512 + 16 + 4 + 2 rows of three columns, with the default limit of 2000 parameters
+		assertThat( connectionProvider.getPreparedSQLStatements() )
+				.hasSize( 5 )
+				.allSatisfy( sql -> assertThat( sql.chars().filter( c -> c == '?' ).count() )
+						.isLessThanOrEqualTo( parameterCountLimit ) );
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Note", Long.class ).getSingleResult()
+		).isEqualTo( 1200L ) );
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		Integer id;
+		String text;
+		Integer priority;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+			this.priority = id % 3;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.multiple;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple} with
+ * {@value AvailableSettings#USE_MULTI_ROW_INSERT} enabled.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = {
+		StatelessSessionMultiRowInsertTest.Book.class,
+		StatelessSessionMultiRowInsertTest.Review.class
+})
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_MULTI_ROW_INSERT, value = "true"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "16")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionMultiRowInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Review" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleUsesValuesList(SessionFactoryScope scope) throws Exception {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < 37; i++ ) {
+			books.add( new Book( i, "Book " + i ) );
+		}
+		books.get( 5 ).title = null;
+
+		connectionProvider.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( books ) );
+
+		// 16 + 16 + 4 + 1 rows
+		assertThat( connectionProvider.getPreparedSQLStatements() ).hasSize( 4 );
+		assertThat( connectionProvider.getPreparedSQLStatements().get( 0 ) ).contains( "),(" );
+		assertThat( connectionProvider.getPreparedSQLStatements().get( 1 ) )
+				.isEqualTo( connectionProvider.getPreparedSQLStatements().get( 0 ) );
+		for ( Book book : books ) {
+			assertThat( book.version ).isEqualTo( 0 );
+		}
+
+		scope.inStatelessTransaction( session -> {
+			final List<Book> loaded = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			assertThat( loaded ).hasSize( books.size() );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				assertThat( loaded.get( i ).id ).isEqualTo( books.get( i ).id );
+				assertThat( loaded.get( i ).title ).isEqualTo( books.get( i ).title );
+				assertThat( loaded.get( i ).published ).isEqualTo( books.get( i ).published );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleReadsGeneratedIdentifiers(SessionFactoryScope scope) {
+		final List<Review> reviews = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			reviews.add( new Review( "Review " + i ) );
+		}
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( reviews ) );
+
+		assertThat( reviews ).allSatisfy( review -> assertThat( review.id ).isNotNull() );
+		scope.inStatelessTransaction( session -> {
+			for ( Review review : reviews ) {
+				assertThat( session.get( Review.class, review.id ).text ).isEqualTo( review.text );
+			}
+		} );
+	}
+
+	private static PreparedStatementSpyConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		LocalDate published;
+		@Version
+		Integer version;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+			this.published = LocalDate.of( 2000 + id % 20, 1 + id % 12, 1 + id % 28 );
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String text;
+
+		public Review() {
+		}
+
+		public Review(String text) {
+			this.text = text;
+		}
+	}
+}
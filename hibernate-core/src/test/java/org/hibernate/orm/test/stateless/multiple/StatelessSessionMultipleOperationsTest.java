@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless.multiple;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple},
+ * {@link org.hibernate.StatelessSession#updateMultiple} and
+ * {@link org.hibernate.StatelessSession#deleteMultiple}.
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionMultipleOperationsTest.Book.class,
+		StatelessSessionMultipleOperationsTest.Author.class
+})
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleGroupsAndBatchesByEntityType(SessionFactoryScope scope) throws Exception {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			entities.add( new Author( i, "Author " + i ) );
+			entities.add( new Book( i, "Book " + i ) );
+		}
+
+		connectionProvider.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( entities ) );
+
+		// one statement per entity type, each executed as a single batch of 5
+		assertThat( connectionProvider.getPreparedStatements() ).hasSize( 2 );
+		for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+			assertThat( connectionProvider.spyContext.getCalls(
+					PreparedStatement.class.getMethod( "addBatch" ),
+					statement
+			) ).hasSize( 5 );
+			assertThat( connectionProvider.spyContext.getCalls(
+					PreparedStatement.class.getMethod( "executeBatch" ),
+					statement
+			) ).hasSize( 1 );
+		}
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultList() ).hasSize( 5 );
+			assertThat( session.createSelectionQuery( "from Author", Author.class ).getResultList() ).hasSize( 5 );
+		} );
+	}
+
+	@Test
+	public void testUpdateAndDeleteMultiple(SessionFactoryScope scope) {
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			books.add( new Book( i, "Book " + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( books ) );
+
+		for ( Book book : books ) {
+			book.title = book.title + " (2nd edition)";
+		}
+		scope.inStatelessTransaction( session -> session.updateMultiple( books ) );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Book> reloaded = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			assertThat( reloaded ).hasSize( 10 );
+			for ( Book book : reloaded ) {
+				assertThat( book.title ).endsWith( " (2nd edition)" );
+				assertThat( book.version ).isEqualTo( 1 );
+			}
+		} );
+
+		scope.inStatelessTransaction( session -> session.deleteMultiple( books.subList( 0, 4 ) ) );
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Book", Long.class ).getSingleResult()
+		).isEqualTo( 6L ) );
+	}
+
+	@Test
+	public void testExplicitBatchSizeIsRespected(SessionFactoryScope scope) throws Exception {
+		final PreparedStatementSpyConnectionProvider connectionProvider = connectionProvider( scope );
+		final List<Book> books = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			books.add( new Book( i, "Book " + i ) );
+		}
+
+		connectionProvider.clear();
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 4 );
+			session.insertMultiple( books );
+			assertThat( session.getJdbcBatchSize() ).isEqualTo( 4 );
+		} );
+
+		assertThat( connectionProvider.getPreparedStatements() ).hasSize( 1 );
+		final PreparedStatement statement = connectionProvider.getPreparedStatements().get( 0 );
+		assertThat( connectionProvider.spyContext.getCalls(
+				PreparedStatement.class.getMethod( "executeBatch" ),
+				statement
+		) ).hasSize( 3 );
+	}
+
+	private static PreparedStatementSpyConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@Version
+		Integer version;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
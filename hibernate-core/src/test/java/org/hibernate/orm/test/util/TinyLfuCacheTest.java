@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TinyLfuCache}.
+ */
+public class TinyLfuCacheTest {
+
+	@Test
+	public void testPutAndGet() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10 );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", "1" );
+		assertEquals( "1", cache.get( "a" ) );
+		cache.put( "a", "2" );
+		assertEquals( "2", cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+		assertEquals( 1, cache.weightedSize() );
+	}
+
+	@Test
+	public void testComputeIfAbsent() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10 );
+		final AtomicInteger computations = new AtomicInteger();
+		assertEquals( "A", cache.computeIfAbsent( "a", key -> {
+			computations.incrementAndGet();
+			return "A";
+		} ) );
+		assertEquals( "A", cache.computeIfAbsent( "a", key -> {
+			computations.incrementAndGet();
+			return "B";
+		} ) );
+		assertEquals( 1, computations.get() );
+	}
+
+	@Test
+	public void testBoundedByWeight() {
+		final List<String> evicted = new ArrayList<>();
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>(
+				100,
+				(key, value) -> value.length(),
+				(key, value) -> evicted.add( key )
+		);
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( "key" + i, i % 2 == 0 ? "x" : "xxxxx" );
+			assertTrue( cache.weightedSize() <= 100 );
+		}
+		assertEquals( 1000 - cache.size(), evicted.size() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, i );
+		}
+		// make the first 50 entries "hot"
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertNotNull( cache.get( i ) );
+			}
+		}
+		// a scan of entries which are used only once should not flush the hot entries
+		for ( int i = 1000; i < 11000; i++ ) {
+			cache.put( i, i );
+		}
+		int hot = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				hot++;
+			}
+		}
+		assertTrue( hot >= 45, "only " + hot + " hot entries survived" );
+		assertTrue( cache.size() <= 100 );
+	}
+
+	@Test
+	public void testClear() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, i );
+		}
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertEquals( 0, cache.weightedSize() );
+		cache.put( 1, 1 );
+		assertEquals( 1, cache.get( 1 ) );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 128 );
+		final int threads = 8;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( () -> {
+					start.await();
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 100_000; i++ ) {
+						// skewed key distribution
+						final int key = random.nextInt( 1 + random.nextInt( 1000 ) );
+						final Integer value = cache.computeIfAbsent( key, k -> k );
+						assertEquals( key, value.intValue() );
+					}
+					return null;
+				} ) );
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertTrue( cache.size() <= 128, "size " + cache.size() );
+		assertTrue( cache.weightedSize() <= 128 );
+	}
+}
@@ -144,6 +144,9 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.batch.size.adjustments", "The number of adjustments of the JDBC batch size",
+				Statistics::getJdbcBatchSizeAdjustmentCount
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -332,6 +335,9 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions", "The global number of query plans evicted from cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -75,6 +75,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.statements.batch.size.adjustments").functionCounter());
 
 		// Second level cache disabled
 		verifyMeterNotFoundException("hibernate.second.level.cache.requests");
@@ -110,6 +111,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();